@@ -0,0 +1,27 @@
+package Benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmark suite with the GC profiler attached, so every result
+ * also reports allocation rate (gc.alloc.rate.norm = bytes per operation).
+ * Any standard JMH command-line option can be passed through, e.g.
+ * {@code Benchmarks.BenchmarkRunner RoundRobin -p size=100000 -p quantum=4}.
+ */
+public class BenchmarkRunner {
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class);
+        if (args.length == 0) {
+            options.include("Benchmarks\\..*");
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,35 @@
+package Benchmarks;
+
+import Algorithms.AlgorithmRegistry;
+import Algorithms.SchedulerConfig;
+import Utils.ExperimentResult;
+import Utils.ExperimentRunner;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monte Carlo comparison of every registered algorithm over many seeded
+ * workloads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class ExperimentBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int trials;
+
+    @Param({"100", "1000"})
+    public int processes;
+
+    private final SchedulerConfig config = new SchedulerConfig();
+
+    @Benchmark
+    public ExperimentResult experiment() {
+        return ExperimentRunner.run(AlgorithmRegistry.getAll(), config, trials, processes, 42, null);
+    }
+}
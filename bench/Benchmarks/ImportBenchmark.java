@@ -0,0 +1,122 @@
+package Benchmarks;
+
+import Models.Process;
+import Models.ProcessTable;
+import Utils.BinaryFormat;
+import Utils.FileHandler;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FileHandler#importProcesses} for every supported format. The fixture
+ * file is written once per trial, in the "arrival burst priority" row format
+ * the text importers accept or in the binary workload format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class ImportBenchmark {
+
+    @Param({"txt", "csv", "docx", "pdf", "psw"})
+    public String format;
+
+    @Param({"100", "10000", "100000"})
+    public int size;
+
+    private File file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ProcessTable workload = Workloads.generate(size, 1, "uniform");
+        file = File.createTempFile("workload", "." + format);
+        switch (format) {
+            case "txt":
+            case "csv":
+                writeText(workload);
+                break;
+            case "docx":
+                writeWord(workload);
+                break;
+            case "pdf":
+                writePdf(workload);
+                break;
+            case "psw":
+                BinaryFormat.writeWorkload(workload, file.toPath());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown format: " + format);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file.toPath());
+    }
+
+    @Benchmark
+    public List<Process> importProcesses() throws IOException {
+        return FileHandler.importProcesses(file);
+    }
+
+    private static String row(ProcessTable workload, int i) {
+        return workload.getArrivalTime(i) + " " + workload.getBurstTime(i) + " " + workload.getPriority(i);
+    }
+
+    private void writeText(ProcessTable workload) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            for (int i = 0; i < workload.size(); i++) {
+                out.write(row(workload, i));
+                out.newLine();
+            }
+        }
+    }
+
+    private void writeWord(ProcessTable workload) throws IOException {
+        try (XWPFDocument document = new XWPFDocument();
+             FileOutputStream out = new FileOutputStream(file)) {
+            for (int i = 0; i < workload.size(); i++) {
+                document.createParagraph().createRun().setText(row(workload, i));
+            }
+            document.write(out);
+        }
+    }
+
+    private void writePdf(ProcessTable workload) throws IOException {
+        int linesPerPage = 45;
+        try (PDDocument document = new PDDocument()) {
+            for (int first = 0; first < workload.size(); first += linesPerPage) {
+                PDPage page = new PDPage(PDRectangle.LETTER);
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.setFont(PDType1Font.HELVETICA, 10);
+                    float y = 750;
+                    for (int i = first; i < Math.min(workload.size(), first + linesPerPage); i++) {
+                        content.beginText();
+                        content.newLineAtOffset(50, y);
+                        content.showText(row(workload, i));
+                        content.endText();
+                        y -= 15;
+                    }
+                }
+            }
+            document.save(file);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package Benchmarks;
+
+import Algorithms.SchedulerConfig;
+import Models.Process;
+import Models.ProcessTable;
+import Models.SchedulingResult;
+import Utils.AlgorithmSelector;
+import Utils.ReportGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PDF generation for the complete multi-algorithm report. Scheduling happens
+ * once in setup, so only report rendering is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g", "-Djava.awt.headless=true"})
+public class ReportBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int size;
+
+    private Map<String, SchedulingResult> results;
+    private Map<String, List<Process>> processMap;
+    private File file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ProcessTable workload = Workloads.generate(size, 1, "uniform");
+        results = AlgorithmSelector.rank(workload, new SchedulerConfig()).getResults();
+        processMap = new LinkedHashMap<>();
+        for (String algorithm : results.keySet()) {
+            processMap.put(algorithm, workload.asList());
+        }
+        file = File.createTempFile("report", ".pdf");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file.toPath());
+    }
+
+    @Benchmark
+    public long generateCompleteReport() throws IOException {
+        ReportGenerator.generateCompleteReport(results, processMap, file.getAbsolutePath());
+        return file.length();
+    }
+}
@@ -0,0 +1,66 @@
+package Benchmarks;
+
+import Algorithms.MLFQ;
+import Algorithms.RoundRobin;
+import Algorithms.SMPRoundRobin;
+import Algorithms.SchedulerConfig;
+import Models.ProcessTable;
+import Models.SchedulingResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round Robin, MLFQ and SMP Round Robin across several quanta; small quanta
+ * stress the ready queues, large ones approach FCFS.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class RoundRobinBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"0", "1", "2"})
+    public double spread;
+
+    @Param({"uniform", "exponential", "bimodal"})
+    public String bursts;
+
+    @Param({"1", "4", "16", "64"})
+    public int quantum;
+
+    private ProcessTable workload;
+    private SchedulerConfig config;
+    private SchedulerConfig smpConfig;
+    private final RoundRobin roundRobin = new RoundRobin();
+    private final MLFQ mlfq = new MLFQ();
+    private final SMPRoundRobin smp = new SMPRoundRobin();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        workload = Workloads.generate(size, spread, bursts);
+        config = new SchedulerConfig(quantum);
+        smpConfig = new SchedulerConfig(quantum);
+        smpConfig.setCores(4);
+    }
+
+    @Benchmark
+    public SchedulingResult roundRobin() {
+        return roundRobin.schedule(workload, config);
+    }
+
+    @Benchmark
+    public SchedulingResult mlfq() {
+        return mlfq.schedule(workload, config);
+    }
+
+    @Benchmark
+    public SchedulingResult smpRoundRobin() {
+        return smp.schedule(workload, smpConfig);
+    }
+}
@@ -0,0 +1,95 @@
+package Benchmarks;
+
+import Algorithms.CFS;
+import Algorithms.FCFS;
+import Algorithms.PreemptivePriority;
+import Algorithms.PriorityScheduling;
+import Algorithms.SJF;
+import Algorithms.SRTF;
+import Algorithms.SchedulerConfig;
+import Models.ProcessTable;
+import Models.ScheduleMetrics;
+import Models.SchedulingResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-algorithm simulation cost for the non-quantum policies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class SchedulingBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"0", "1", "2"})
+    public double spread;
+
+    @Param({"uniform", "exponential", "bimodal"})
+    public String bursts;
+
+    private ProcessTable workload;
+    private final SchedulerConfig config = new SchedulerConfig();
+    private final FCFS fcfs = new FCFS();
+    private final SJF sjf = new SJF();
+    private final PriorityScheduling priority = new PriorityScheduling();
+    private final SRTF srtf = new SRTF();
+    private final PreemptivePriority preemptivePriority = new PreemptivePriority();
+    private final CFS cfs = new CFS();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        workload = Workloads.generate(size, spread, bursts);
+    }
+
+    @Benchmark
+    public SchedulingResult fcfs() {
+        return fcfs.schedule(workload, config);
+    }
+
+    @Benchmark
+    public SchedulingResult sjf() {
+        return sjf.schedule(workload, config);
+    }
+
+    @Benchmark
+    public SchedulingResult priority() {
+        return priority.schedule(workload, config);
+    }
+
+    @Benchmark
+    public SchedulingResult srtf() {
+        return srtf.schedule(workload, config);
+    }
+
+    @Benchmark
+    public SchedulingResult preemptivePriority() {
+        return preemptivePriority.schedule(workload, config);
+    }
+
+    @Benchmark
+    public SchedulingResult cfs() {
+        return cfs.schedule(workload, config);
+    }
+
+    @Benchmark
+    public ScheduleMetrics fcfsMetrics() {
+        return fcfs.measure(workload, config);
+    }
+
+    @Benchmark
+    public ScheduleMetrics sjfMetrics() {
+        return sjf.measure(workload, config);
+    }
+
+    @Benchmark
+    public ScheduleMetrics priorityMetrics() {
+        return priority.measure(workload, config);
+    }
+}
@@ -0,0 +1,48 @@
+package Benchmarks;
+
+import Algorithms.SchedulerConfig;
+import Models.ProcessTable;
+import Utils.AlgorithmRanking;
+import Utils.AlgorithmSelector;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ranking every registered algorithm on one workload.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class SelectorBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"0", "1", "2"})
+    public double spread;
+
+    @Param({"uniform", "exponential", "bimodal"})
+    public String bursts;
+
+    private ProcessTable workload;
+    private final SchedulerConfig config = new SchedulerConfig();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        workload = Workloads.generate(size, spread, bursts);
+    }
+
+    @Benchmark
+    public AlgorithmRanking rank() {
+        return AlgorithmSelector.rank(workload, config);
+    }
+
+    @Benchmark
+    public AlgorithmRanking rankMetrics() {
+        return AlgorithmSelector.rankMetrics(workload, config);
+    }
+}
@@ -0,0 +1,62 @@
+package Benchmarks;
+
+import Models.ProcessTable;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeded synthetic workloads for the benchmarks. The same parameters always
+ * produce the same table, so runs can be compared across commits.
+ */
+public class Workloads {
+    public static final long SEED = 42L;
+
+    /**
+     * @param size   number of processes
+     * @param spread arrival window as a multiple of the total expected burst
+     *               time: 0 = everything arrives at t=0, 1 = the CPU is
+     *               roughly saturated, 2 = about half loaded
+     * @param bursts "uniform" (1-20), "exponential" (mean 10) or "bimodal"
+     *               (80% interactive 1-5, 20% batch 50-200)
+     */
+    public static ProcessTable generate(int size, double spread, String bursts) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int[] ids = new int[size];
+        int[] arrivals = new int[size];
+        int[] burstTimes = new int[size];
+        int[] priorities = new int[size];
+
+        long window = (long) (spread * size * meanBurst(bursts));
+        int arrivalBound = (int) Math.min(Integer.MAX_VALUE - 1, window) + 1;
+
+        for (int i = 0; i < size; i++) {
+            ids[i] = i + 1;
+            arrivals[i] = random.nextInt(arrivalBound);
+            burstTimes[i] = nextBurst(random, bursts);
+            priorities[i] = random.nextInt(5) + 1;
+        }
+        return new ProcessTable(ids, arrivals, burstTimes, priorities);
+    }
+
+    private static double meanBurst(String bursts) {
+        switch (bursts) {
+            case "uniform": return 10.5;
+            case "exponential": return 10;
+            case "bimodal": return 0.8 * 3 + 0.2 * 125;
+            default: throw new IllegalArgumentException("Unknown burst distribution: " + bursts);
+        }
+    }
+
+    private static int nextBurst(SplittableRandom random, String bursts) {
+        switch (bursts) {
+            case "uniform":
+                return random.nextInt(20) + 1;
+            case "exponential":
+                return 1 + (int) (-Math.log(1 - random.nextDouble()) * 9);
+            case "bimodal":
+                return random.nextDouble() < 0.8 ? random.nextInt(1, 6) : random.nextInt(50, 201);
+            default:
+                throw new IllegalArgumentException("Unknown burst distribution: " + bursts);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package Algorithms;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Central list of the available scheduling algorithms. The UI, the
+ * best/worst selector and the report generator all enumerate this registry,
+ * so a new policy only has to be registered here.
+ */
+public class AlgorithmRegistry {
+    private static final Map<String, SchedulingAlgorithm> algorithms = new LinkedHashMap<>();
+
+    static {
+        register(new FCFS());
+        register(new SJF());
+        register(new PriorityScheduling());
+        register(new RoundRobin());
+        register(new SRTF());
+        register(new PreemptivePriority());
+        register(new MLFQ());
+        register(new CFS());
+        register(new SMPRoundRobin());
+    }
+
+    public static synchronized void register(SchedulingAlgorithm algorithm) {
+        algorithms.put(algorithm.getName(), algorithm);
+    }
+
+    /**
+     * @throws IllegalArgumentException if no algorithm is registered under the name
+     */
+    public static synchronized SchedulingAlgorithm get(String name) {
+        SchedulingAlgorithm algorithm = algorithms.get(name);
+        if (algorithm == null) {
+            throw new IllegalArgumentException("Invalid algorithm: " + name);
+        }
+        return algorithm;
+    }
+
+    public static synchronized List<SchedulingAlgorithm> getAll() {
+        return new ArrayList<>(algorithms.values());
+    }
+
+    public static synchronized List<String> getNames() {
+        return new ArrayList<>(algorithms.keySet());
+    }
+}
@@ -0,0 +1,188 @@
+package Algorithms;
+
+import Models.Process;
+import Models.ProcessTable;
+import Models.SchedulingResult;
+import java.util.*;
+
+/**
+ * Completely Fair Scheduler in the style of Linux CFS. Every process
+ * accumulates virtual runtime: real run time scaled by the nice-0 weight
+ * over its own weight, so heavier processes age more slowly. The process
+ * with the least virtual runtime runs next.
+ *
+ * The priority maps to a nice value (priority 3 is nice 0, each step is
+ * one nice level, clamped to -20..19) and the nice value to the Linux
+ * weight table. A dispatched process gets its weighted share of the
+ * scheduling period: {@link SchedulerConfig#getTargetLatency()}, stretched
+ * to {@link SchedulerConfig#getMinGranularity()} per process when too many
+ * are runnable, and never less than the minimum granularity. New processes
+ * start at the queue's minimum virtual runtime, and an arrival preempts the
+ * running process once it is more than the minimum granularity ahead in
+ * virtual time.
+ *
+ * The run queue is a heap ordered by virtual runtime, so picking the next
+ * process is O(log n) and the whole run is O((n + slices) log n).
+ */
+public class CFS implements SchedulingAlgorithm {
+    private static final int NICE_0_WEIGHT = 1024;
+    // Fixed-point virtual runtime: 1 time unit at nice 0 is 2^20
+    private static final int VRUNTIME_SHIFT = 20;
+
+    // Linux sched_prio_to_weight, nice -20 to 19; each level is about 25% apart
+    private static final int[] NICE_TO_WEIGHT = {
+            88761, 71755, 56483, 46273, 36291,
+            29154, 23254, 18705, 14949, 11916,
+            9548, 7620, 6100, 4904, 3906,
+            3121, 2501, 1991, 1586, 1277,
+            1024, 820, 655, 526, 423,
+            335, 272, 215, 172, 137,
+            110, 87, 70, 56, 45,
+            36, 29, 23, 18, 15,
+    };
+
+    public static SchedulingResult schedule(List<Process> processes) {
+        return new CFS().schedule(processes, new SchedulerConfig());
+    }
+
+    @Override
+    public String getName() {
+        return "CFS";
+    }
+
+    @Override
+    public boolean isPreemptive() {
+        return true;
+    }
+
+    @Override
+    public boolean needsQuantum() {
+        return false;
+    }
+
+    /** Load weight of a process with the given priority (1 is highest, 3 is nice 0). */
+    static int weightOf(int priority) {
+        int nice = Math.max(-20, Math.min(19, priority - 3));
+        return NICE_TO_WEIGHT[nice + 20];
+    }
+
+    @Override
+    public void schedule(ProcessTable processes, SchedulerConfig config, ScheduleSink sink) {
+        int n = processes.size();
+        int targetLatency = config.getTargetLatency();
+        int minGranularity = config.getMinGranularity();
+
+        int[] remaining = new int[n];
+        int[] startTimes = new int[n];
+        int[] weights = new int[n];
+        long[] vruntime = new long[n];
+        for (int i = 0; i < n; i++) {
+            remaining[i] = processes.getBurstTime(i);
+            startTimes[i] = -1; // not started yet
+            weights[i] = weightOf(processes.getPriority(i));
+        }
+
+        // Least virtual runtime, then arrival time, then process id
+        IndexHeap ready = new IndexHeap(n, (a, b) -> {
+            if (vruntime[a] != vruntime[b]) return Long.compare(vruntime[a], vruntime[b]);
+            int arrivalA = processes.getArrivalTime(a);
+            int arrivalB = processes.getArrivalTime(b);
+            if (arrivalA != arrivalB) return Integer.compare(arrivalA, arrivalB);
+            int idA = processes.getId(a);
+            int idB = processes.getId(b);
+            if (idA != idB) return Integer.compare(idA, idB);
+            return Integer.compare(a, b);
+        });
+
+        int[] order = processes.arrivalOrder();
+        int nextArrival = 0;
+        int currentTime = 0;
+        long minVruntime = 0;
+        long totalWeight = 0; // runnable processes, including the running one
+
+        int running = -1;
+        int sliceStart = 0;
+        int sliceEnd = 0;
+        long slices = 0;
+        long wakeupPreemptions = 0;
+
+        while (true) {
+            if (running < 0) {
+                while (nextArrival < n && processes.getArrivalTime(order[nextArrival]) <= currentTime) {
+                    int i = order[nextArrival++];
+                    vruntime[i] = minVruntime;
+                    totalWeight += weights[i];
+                    ready.push(i);
+                }
+                if (ready.isEmpty()) {
+                    if (nextArrival == n) break;
+                    // CPU idle: jump straight to the next arrival
+                    currentTime = processes.getArrivalTime(order[nextArrival]);
+                    continue;
+                }
+                running = ready.pop();
+                sliceStart = currentTime;
+                if (startTimes[running] < 0) {
+                    startTimes[running] = currentTime;
+                }
+
+                // Weighted share of the period, which stretches when too many are runnable
+                long runnable = ready.size() + 1;
+                long period = Math.max(targetLatency, runnable * minGranularity);
+                long slice = Math.max(minGranularity, period * weights[running] / totalWeight);
+                sliceEnd = (int) Math.min(currentTime + Math.min(slice, remaining[running]), Integer.MAX_VALUE);
+                slices++;
+            }
+
+            // Run until the slice ends (or the process finishes) or the next arrival
+            int eventTime = nextArrival < n
+                    ? Math.min(sliceEnd, processes.getArrivalTime(order[nextArrival]))
+                    : sliceEnd;
+            currentTime = eventTime;
+            long currentVruntime = vruntime[running] + virtualTime(currentTime - sliceStart, weights[running]);
+            if (!ready.isEmpty()) {
+                minVruntime = Math.max(minVruntime, Math.min(currentVruntime, vruntime[ready.peek()]));
+            } else {
+                minVruntime = Math.max(minVruntime, currentVruntime);
+            }
+
+            boolean preempt = currentTime == sliceEnd;
+            // Arrivals at this instant start at the minimum and may preempt
+            while (nextArrival < n && processes.getArrivalTime(order[nextArrival]) <= currentTime) {
+                int i = order[nextArrival++];
+                vruntime[i] = minVruntime;
+                totalWeight += weights[i];
+                ready.push(i);
+                if (!preempt && currentVruntime - vruntime[i] > virtualTime(minGranularity, weights[i])) {
+                    preempt = true;
+                    wakeupPreemptions++;
+                }
+            }
+            if (!preempt) continue;
+
+            int pid = processes.getId(running);
+            int ran = currentTime - sliceStart;
+            remaining[running] -= ran;
+            vruntime[running] = currentVruntime;
+            if (ran > 0) {
+                sink.slice(sliceStart, currentTime, pid);
+            }
+            if (remaining[running] == 0) {
+                totalWeight -= weights[running];
+                sink.completed(pid, processes.getArrivalTime(running), processes.getBurstTime(running),
+                        startTimes[running], currentTime);
+            } else {
+                ready.push(running);
+            }
+            running = -1;
+        }
+
+        sink.statistic("Slices", slices);
+        sink.statistic("Wakeup preemptions", wakeupPreemptions);
+    }
+
+    // Real time scaled by nice-0 weight over the process's weight
+    private static long virtualTime(long time, int weight) {
+        return (time << VRUNTIME_SHIFT) * NICE_0_WEIGHT / weight;
+    }
+}
@@ -1,51 +1,54 @@
 package Algorithms;
 
-import Models.GanttBlock;
 import Models.Process;
-import Models.ProcessResult;
+import Models.ProcessStream;
+import Models.ProcessTable;
 import Models.SchedulingResult;
 import java.util.*;
 
-public class FCFS {
+public class FCFS implements StreamingAlgorithm {
     public static SchedulingResult schedule(List<Process> processes) {
-        List<Process> sorted = new ArrayList<>(processes);
-        sorted.sort(Comparator.comparingInt(p -> p.getArrivalTime()));
-        
+        return new FCFS().schedule(processes, new SchedulerConfig());
+    }
+
+    @Override
+    public String getName() {
+        return "FCFS";
+    }
+
+    @Override
+    public boolean isPreemptive() {
+        return false;
+    }
+
+    @Override
+    public boolean needsQuantum() {
+        return false;
+    }
+
+    @Override
+    public void schedule(ProcessTable processes, SchedulerConfig config, ScheduleSink sink) {
+        schedule(processes.stream(), config, sink);
+    }
+
+    @Override
+    public void schedule(ProcessStream processes, SchedulerConfig config, ScheduleSink sink) {
         int currentTime = 0;
-        double totalWaiting = 0;
-        double totalTurnaround = 0;
-        List<GanttBlock> gantt = new ArrayList<>();
-        List<ProcessResult> processResults = new ArrayList<>();
-
-        for(Process p : sorted) {
-            if(currentTime < p.getArrivalTime()) {
-                currentTime = p.getArrivalTime();
+
+        // Nothing but the clock is kept, so the stream may be arbitrarily long
+        while (processes.next()) {
+            int arrival = processes.getArrivalTime();
+            if (currentTime < arrival) {
+                currentTime = arrival;
             }
-            
+
             int startTime = currentTime;
-            int endTime = currentTime + p.getBurstTime();
-            int waiting = startTime - p.getArrivalTime();
-            int turnaround = endTime - p.getArrivalTime();
-            
-            totalWaiting += waiting;
-            totalTurnaround += turnaround;
-            
-            // Record process execution details
-            processResults.add(new ProcessResult(
-                p.getId(),
-                p.getArrivalTime(),
-                p.getBurstTime(),
-                startTime,
-                endTime
-            ));
-            
-            gantt.add(new GanttBlock(startTime, endTime, "P" + p.getId()));
+            int endTime = currentTime + processes.getBurstTime();
+
+            int pid = processes.getId();
+            sink.slice(startTime, endTime, pid);
+            sink.completed(pid, arrival, processes.getBurstTime(), startTime, endTime);
             currentTime = endTime;
         }
-        
-        double avgWaiting = totalWaiting / processes.size();
-        double avgTurnaround = totalTurnaround / processes.size();
-        
-        return new SchedulingResult(avgWaiting, avgTurnaround, gantt, processResults);
     }
 }
\ No newline at end of file
@@ -0,0 +1,231 @@
+package Algorithms;
+
+import Models.GanttTimeline;
+import Models.ProcessResult;
+import Models.ProcessTable;
+import Models.SchedulingResult;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Re-simulates a growing workload without starting over. Every run remembers
+ * the order and start time of its dispatches; when the next workload is the
+ * previous one with rows appended (as when processes are added in the UI),
+ * the dispatches made before the first new arrival are kept, the ready queue
+ * at that point is restored from them and only the remainder is replayed.
+ *
+ * Replay stops as soon as the CPU falls idle with every new process done.
+ * Both runs are work-conserving, so the previous schedule is idle at that
+ * moment as well and its suffix is reused unchanged. For FCFS this patches
+ * just the stretch of the schedule that the new processes push back.
+ *
+ * Incremental for the non-preemptive policies (FCFS, SJF, Priority). Other
+ * algorithms, a change to a setting the algorithm uses or an edited existing
+ * row fall back to a full run.
+ */
+public class IncrementalSimulation {
+    private final SchedulingAlgorithm algorithm;
+    // State of the last run
+    private SchedulerConfig config;
+    private ProcessTable table;
+    private long fingerprint;
+    private int[] order;        // rows in arrival order
+    private int[] dispatched;   // rows in the order they ran
+    private int[] starts;       // start time of each dispatch
+    private int[] dispatchOf;   // dispatch index of each row
+    private SchedulingResult result;
+
+    public IncrementalSimulation(SchedulingAlgorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public SchedulingAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Schedules {@code processes}, reusing the previous run when they extend
+     * its workload. The result equals a full run of the algorithm.
+     *
+     * @param progress receives completion counts as they are simulated, or null
+     */
+    public synchronized SchedulingResult run(ProcessTable processes, SchedulerConfig config, IntConsumer progress) {
+        int n = processes.size();
+        IndexHeap.IndexOrder readyOrder = readyOrder(algorithm, processes);
+        if (readyOrder == null) {
+            ResultCollector collector = new ResultCollector(n);
+            algorithm.schedule(processes, config, progress == null ? collector
+                    : new ProgressSink(collector, Math.max(1, n / 100), progress));
+            return collector.toResult();
+        }
+
+        // Settings the algorithm ignores, such as the quantum, do not invalidate the previous run
+        SchedulerConfig relevant = config.relevantTo(algorithm);
+        boolean extending = table != null && n >= table.size() && relevant.equals(this.config)
+                && processes.view(0, table.size()).fingerprint() == fingerprint;
+        if (extending && n == table.size()) {
+            return result;
+        }
+        int oldSize = extending ? table.size() : 0;
+        int[] oldOrder = extending ? order : new int[0];
+        List<ProcessResult> oldResults = extending ? result.getProcessResults() : null;
+
+        int[] added = processes.view(oldSize, n).arrivalOrder();
+        for (int i = 0; i < added.length; i++) {
+            added[i] += oldSize;
+        }
+
+        // Dispatches that started before the first new arrival are unaffected
+        int kept = 0;
+        if (extending) {
+            int firstArrival = processes.getArrivalTime(added[0]);
+            kept = lowerBound(starts, oldSize, firstArrival);
+        }
+        // Unchanged results are shared with the previous run
+        List<ProcessResult> results = new ArrayList<>(n);
+        int[] newDispatched = new int[n];
+        int[] newStarts = new int[n];
+        if (kept > 0) {
+            results.addAll(oldResults.subList(0, kept));
+            System.arraycopy(dispatched, 0, newDispatched, 0, kept);
+            System.arraycopy(starts, 0, newStarts, 0, kept);
+        }
+        int count = kept;
+        int step = Math.max(1, n / 100);
+        int currentTime = kept == 0 ? 0 : starts[kept - 1] + processes.getBurstTime(dispatched[kept - 1]);
+
+        // Restore the ready queue: everything that has arrived but not yet run
+        IndexHeap ready = new IndexHeap(n - kept, readyOrder);
+        int oldNext = 0;
+        while (oldNext < oldSize && processes.getArrivalTime(oldOrder[oldNext]) <= currentTime) {
+            int row = oldOrder[oldNext++];
+            if (dispatchOf[row] >= kept) ready.push(row);
+        }
+        int addedNext = 0;
+        int reuseFrom = oldSize;
+
+        while (true) {
+            if (ready.isEmpty()) {
+                boolean oldLeft = oldNext < oldSize;
+                boolean addedLeft = addedNext < added.length;
+                if (!oldLeft && !addedLeft) break;
+                int nextArrival = !addedLeft ? processes.getArrivalTime(oldOrder[oldNext])
+                        : !oldLeft ? processes.getArrivalTime(added[addedNext])
+                        : Math.min(processes.getArrivalTime(oldOrder[oldNext]), processes.getArrivalTime(added[addedNext]));
+                if (nextArrival > currentTime) {
+                    if (!addedLeft) {
+                        // Idle with every new process done: the rest of the old schedule still holds
+                        reuseFrom = oldNext;
+                        break;
+                    }
+                    // CPU idle: jump straight to the next arrival
+                    currentTime = nextArrival;
+                }
+            }
+            while (oldNext < oldSize && processes.getArrivalTime(oldOrder[oldNext]) <= currentTime) {
+                ready.push(oldOrder[oldNext++]);
+            }
+            while (addedNext < added.length && processes.getArrivalTime(added[addedNext]) <= currentTime) {
+                ready.push(added[addedNext++]);
+            }
+
+            int next = ready.pop();
+            int startTime = currentTime;
+            int endTime = currentTime + processes.getBurstTime(next);
+
+            results.add(new ProcessResult(processes.getId(next), processes.getArrivalTime(next),
+                    processes.getBurstTime(next), startTime, endTime));
+            newDispatched[count] = next;
+            newStarts[count++] = startTime;
+            currentTime = endTime;
+            if (progress != null && (count - kept) % step == 0) progress.accept(step);
+        }
+
+        if (reuseFrom < oldSize) {
+            results.addAll(oldResults.subList(reuseFrom, oldSize));
+            System.arraycopy(dispatched, reuseFrom, newDispatched, count, oldSize - reuseFrom);
+            System.arraycopy(starts, reuseFrom, newStarts, count, oldSize - reuseFrom);
+        }
+
+        int[] newDispatchOf = new int[n];
+        for (int j = 0; j < n; j++) {
+            newDispatchOf[newDispatched[j]] = j;
+        }
+        this.config = relevant;
+        this.table = processes;
+        this.fingerprint = processes.fingerprint();
+        this.order = merge(processes, oldOrder, added);
+        this.dispatched = newDispatched;
+        this.starts = newStarts;
+        this.dispatchOf = newDispatchOf;
+        this.result = toResult(results);
+        return result;
+    }
+
+    // Must match the heap order of the algorithm's own engine
+    static IndexHeap.IndexOrder readyOrder(SchedulingAlgorithm algorithm, ProcessTable processes) {
+        if (algorithm instanceof FCFS) {
+            return (a, b) -> {
+                int arrivalA = processes.getArrivalTime(a);
+                int arrivalB = processes.getArrivalTime(b);
+                return arrivalA != arrivalB ? Integer.compare(arrivalA, arrivalB) : Integer.compare(a, b);
+            };
+        }
+        if (algorithm instanceof SJF) {
+            return NonPreemptiveScheduler.readyOrder(processes, processes::getBurstTime);
+        }
+        if (algorithm instanceof PriorityScheduling) {
+            return NonPreemptiveScheduler.readyOrder(processes, processes::getPriority);
+        }
+        return null;
+    }
+
+    // Same chart and averages as a ResultCollector fed the results in dispatch order
+    private static SchedulingResult toResult(List<ProcessResult> results) {
+        GanttTimeline gantt = new GanttTimeline(results.size());
+        double totalWaiting = 0;
+        double totalTurnaround = 0;
+        for (ProcessResult r : results) {
+            gantt.append(r.getStartTime(), r.getEndTime(), r.getPid());
+            int turnaround = r.getEndTime() - r.getArrivalTime();
+            totalWaiting += turnaround - r.getBurstTime();
+            totalTurnaround += turnaround;
+        }
+        return new SchedulingResult(totalWaiting / results.size(), totalTurnaround / results.size(),
+                gantt, results, Collections.emptyMap());
+    }
+
+    // First index in the sorted prefix whose value is at least key
+    private static int lowerBound(int[] sorted, int length, int key) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Arrival order of the whole table; added rows come after older rows arriving at the same time
+    private static int[] merge(ProcessTable processes, int[] oldOrder, int[] added) {
+        if (oldOrder.length == 0) return added;
+        int[] merged = new int[oldOrder.length + added.length];
+        int i = 0;
+        int j = 0;
+        for (int k = 0; k < merged.length; k++) {
+            if (j == added.length || (i < oldOrder.length
+                    && processes.getArrivalTime(oldOrder[i]) <= processes.getArrivalTime(added[j]))) {
+                merged[k] = oldOrder[i++];
+            } else {
+                merged[k] = added[j++];
+            }
+        }
+        return merged;
+    }
+}
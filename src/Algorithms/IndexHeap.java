@@ -0,0 +1,68 @@
+package Algorithms;
+
+/**
+ * Binary min-heap of process indices. The ordering is supplied by the caller,
+ * so the same heap serves any key (burst, priority, remaining time, ...)
+ * without boxing.
+ */
+class IndexHeap {
+
+    interface IndexOrder {
+        /** Negative if process {@code a} should run before process {@code b}. */
+        int compare(int a, int b);
+    }
+
+    private final IndexOrder order;
+    private int[] heap;
+    private int size;
+
+    IndexHeap(int capacity, IndexOrder order) {
+        this.order = order;
+        this.heap = new int[Math.max(1, capacity)];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int peek() {
+        return heap[0];
+    }
+
+    void push(int index) {
+        if (size == heap.length) {
+            heap = java.util.Arrays.copyOf(heap, size * 2);
+        }
+        int pos = size++;
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (order.compare(index, heap[parent]) >= 0) break;
+            heap[pos] = heap[parent];
+            pos = parent;
+        }
+        heap[pos] = index;
+    }
+
+    int pop() {
+        int top = heap[0];
+        int last = heap[--size];
+        int pos = 0;
+        int half = size >>> 1;
+        while (pos < half) {
+            int child = 2 * pos + 1;
+            int right = child + 1;
+            if (right < size && order.compare(heap[right], heap[child]) < 0) {
+                child = right;
+            }
+            if (order.compare(last, heap[child]) <= 0) break;
+            heap[pos] = heap[child];
+            pos = child;
+        }
+        if (size > 0) heap[pos] = last;
+        return top;
+    }
+}
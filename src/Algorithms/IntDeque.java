@@ -0,0 +1,52 @@
+package Algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Growable ring buffer of {@code int}s usable from both ends, for run
+ * queues that must not box process indices.
+ */
+class IntDeque {
+    private int[] elements;
+    private int head;
+    private int size;
+
+    IntDeque(int capacity) {
+        elements = new int[Math.max(1, capacity)];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void addLast(int value) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[(head + size++) % elements.length] = value;
+    }
+
+    int pollFirst() {
+        int value = elements[head];
+        head = (head + 1) % elements.length;
+        size--;
+        return value;
+    }
+
+    int pollLast() {
+        return elements[(head + --size) % elements.length];
+    }
+
+    private void grow() {
+        int[] grown = new int[elements.length * 2];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, grown, 0, firstPart);
+        System.arraycopy(elements, 0, grown, firstPart, size - firstPart);
+        elements = grown;
+        head = 0;
+    }
+}
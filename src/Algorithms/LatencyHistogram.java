@@ -0,0 +1,59 @@
+package Algorithms;
+
+/**
+ * Log-linear histogram of non-negative {@code int} values: exact below 128,
+ * then 64 buckets per power of two, so any reported value is within about
+ * 1.6% of the true one. The bucket array has a fixed size (1664 counters)
+ * however many values are recorded.
+ */
+class LatencyHistogram {
+    private static final int SUB_BITS = 6;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int LINEAR_LIMIT = 2 * SUB_COUNT;
+
+    private final long[] counts = new long[bucketIndex(Integer.MAX_VALUE) + 1];
+    private long total;
+
+    void record(int value) {
+        counts[bucketIndex(Math.max(0, value))]++;
+        total++;
+    }
+
+    long getTotal() {
+        return total;
+    }
+
+    /**
+     * Smallest value such that at least {@code quantile} of the recorded
+     * values are less than or equal to it, rounded up to its bucket's upper
+     * bound; 0 if nothing was recorded.
+     */
+    int valueAtQuantile(double quantile) {
+        if (total == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return upperBound(i);
+            }
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    static int bucketIndex(int value) {
+        if (value < LINEAR_LIMIT) return value;
+        int exponent = 31 - Integer.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BITS;
+        // The top SUB_BITS + 1 bits select the bucket within this power of two
+        return LINEAR_LIMIT + (shift - 1) * SUB_COUNT + ((value >>> shift) - SUB_COUNT);
+    }
+
+    static int upperBound(int index) {
+        if (index < LINEAR_LIMIT) return index;
+        int k = index - LINEAR_LIMIT;
+        int shift = k / SUB_COUNT + 1;
+        long top = k % SUB_COUNT + SUB_COUNT;
+        return (int) Math.min(Integer.MAX_VALUE, ((top + 1) << shift) - 1);
+    }
+}
@@ -0,0 +1,199 @@
+package Algorithms;
+
+import Models.Process;
+import Models.ProcessTable;
+import Models.SchedulingResult;
+import java.util.*;
+
+/**
+ * Multi-Level Feedback Queue. New processes enter the top level; each level
+ * is round robin with its own quantum ({@link SchedulerConfig#getLevelQuanta()}).
+ * A process that uses up its quantum at a level is demoted one level, and
+ * the lowest level keeps it. A higher level always runs first: an arrival
+ * preempts a process running below the top level, which then resumes at the
+ * head of its queue with the rest of its allotment. Every
+ * {@link SchedulerConfig#getBoostPeriod()} time units all processes move
+ * back to the top level with fresh allotments.
+ *
+ * The level queues are singly linked lists threaded through one {@code int[]},
+ * so enqueue at either end, dispatch and the boost (which concatenates every
+ * queue onto the top one) are all O(1).
+ *
+ * Per-level residency is reported as statistics: CPU time, share of the
+ * busy time and dispatches for each level, plus demotion and boost counts.
+ */
+public class MLFQ implements SchedulingAlgorithm {
+    private static final int NONE = -1;
+
+    public static SchedulingResult schedule(List<Process> processes) {
+        return new MLFQ().schedule(processes, new SchedulerConfig());
+    }
+
+    @Override
+    public String getName() {
+        return "MLFQ";
+    }
+
+    @Override
+    public boolean isPreemptive() {
+        return true;
+    }
+
+    @Override
+    public boolean needsQuantum() {
+        return true;
+    }
+
+    @Override
+    public void schedule(ProcessTable processes, SchedulerConfig config, ScheduleSink sink) {
+        int n = processes.size();
+        int[] quanta = config.getLevelQuanta();
+        int levels = quanta.length;
+        int boostPeriod = config.getBoostPeriod();
+
+        int[] remainingTimes = new int[n];
+        int[] startTimes = new int[n];
+        int[] used = new int[n];       // time used of the current level's quantum
+        int[] usedEpoch = new int[n];  // boost epoch in which 'used' was last reset
+        int pending = 0;
+        for (int i = 0; i < n; i++) {
+            remainingTimes[i] = processes.getBurstTime(i);
+            startTimes[i] = -1; // not started yet
+            if (remainingTimes[i] > 0) pending++;
+        }
+
+        // One linked queue per level; next[i] links process i to the one behind it
+        int[] next = new int[n];
+        int[] heads = new int[levels];
+        int[] tails = new int[levels];
+        Arrays.fill(heads, NONE);
+        Arrays.fill(tails, NONE);
+
+        long[] levelTime = new long[levels];
+        long[] dispatches = new long[levels];
+        long demotions = 0;
+        long boosts = 0;
+        int epoch = 0;
+
+        int[] order = processes.arrivalOrder();
+        int nextArrival = 0;
+        int currentTime = 0;
+        long nextBoost = boostPeriod > 0 ? boostPeriod : Long.MAX_VALUE;
+
+        while (pending > 0) {
+            // Admit everything that has arrived by now
+            while (nextArrival < n && processes.getArrivalTime(order[nextArrival]) <= currentTime) {
+                int i = order[nextArrival++];
+                if (remainingTimes[i] > 0) {
+                    usedEpoch[i] = epoch;
+                    used[i] = 0;
+                    addLast(heads, tails, next, 0, i);
+                }
+            }
+
+            if (currentTime >= nextBoost) {
+                // Move every lower queue, in level order, behind the top one
+                for (int level = 1; level < levels; level++) {
+                    if (heads[level] == NONE) continue;
+                    if (heads[0] == NONE) {
+                        heads[0] = heads[level];
+                    } else {
+                        next[tails[0]] = heads[level];
+                    }
+                    tails[0] = tails[level];
+                    heads[level] = NONE;
+                    tails[level] = NONE;
+                }
+                epoch++; // every allotment starts over
+                boosts++;
+                nextBoost = ((long) currentTime / boostPeriod + 1) * boostPeriod;
+            }
+
+            int level = 0;
+            while (level < levels && heads[level] == NONE) level++;
+            if (level == levels) {
+                // CPU idle: jump straight to the next arrival
+                currentTime = Math.max(currentTime, processes.getArrivalTime(order[nextArrival]));
+                continue;
+            }
+
+            int index = heads[level];
+            heads[level] = next[index];
+            if (heads[level] == NONE) tails[level] = NONE;
+
+            if (usedEpoch[index] != epoch) {
+                usedEpoch[index] = epoch;
+                used[index] = 0;
+            }
+            if (startTimes[index] < 0) {
+                startTimes[index] = currentTime;
+            }
+
+            // Run until the quantum is used up, the process finishes, an arrival
+            // preempts a lower level, or the next boost
+            long end = (long) currentTime + Math.min(remainingTimes[index], quanta[level] - used[index]);
+            if (level > 0 && nextArrival < n) {
+                end = Math.min(end, processes.getArrivalTime(order[nextArrival]));
+            }
+            end = Math.min(end, nextBoost);
+
+            int timeBeforeExecution = currentTime;
+            int execTime = (int) (end - currentTime);
+            currentTime = (int) end;
+            sink.slice(timeBeforeExecution, currentTime, processes.getId(index));
+            levelTime[level] += execTime;
+            dispatches[level]++;
+
+            // Processes that arrived during the slice queue up ahead of the preempted one
+            while (nextArrival < n && processes.getArrivalTime(order[nextArrival]) < currentTime) {
+                int i = order[nextArrival++];
+                if (remainingTimes[i] > 0) {
+                    usedEpoch[i] = epoch;
+                    used[i] = 0;
+                    addLast(heads, tails, next, 0, i);
+                }
+            }
+
+            remainingTimes[index] -= execTime;
+            used[index] += execTime;
+            if (remainingTimes[index] == 0) {
+                pending--;
+                sink.completed(processes.getId(index), processes.getArrivalTime(index),
+                        processes.getBurstTime(index), startTimes[index], currentTime);
+            } else if (used[index] >= quanta[level]) {
+                // Quantum used up: move down a level (the lowest level keeps it)
+                int lower = Math.min(level + 1, levels - 1);
+                if (lower != level) demotions++;
+                used[index] = 0;
+                addLast(heads, tails, next, lower, index);
+            } else {
+                // Preempted: resume first at the same level
+                next[index] = heads[level];
+                heads[level] = index;
+                if (tails[level] == NONE) tails[level] = index;
+            }
+        }
+
+        long busy = 0;
+        for (long time : levelTime) {
+            busy += time;
+        }
+        for (int level = 0; level < levels; level++) {
+            sink.statistic("Level " + level + " CPU time", levelTime[level]);
+            sink.statistic("Level " + level + " CPU share", busy > 0 ? (double) levelTime[level] / busy : 0);
+            sink.statistic("Level " + level + " dispatches", dispatches[level]);
+        }
+        sink.statistic("Demotions", demotions);
+        sink.statistic("Boosts", boosts);
+    }
+
+    private static void addLast(int[] heads, int[] tails, int[] next, int level, int index) {
+        next[index] = NONE;
+        if (tails[level] == NONE) {
+            heads[level] = index;
+        } else {
+            next[tails[level]] = index;
+        }
+        tails[level] = index;
+    }
+}
@@ -0,0 +1,118 @@
+package Algorithms;
+
+import Models.MetricSummary;
+import Models.ScheduleMetrics;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sink for metrics-only simulations. Completions are folded into running
+ * sums and fixed-size histograms as they arrive, so no per-process objects
+ * are created and memory does not grow with the workload.
+ */
+public class MetricsCollector implements ScheduleSink {
+    private static final int NONE = Integer.MIN_VALUE;
+
+    private final int processCount;
+    private final Accumulator waiting = new Accumulator();
+    private final Accumulator turnaround = new Accumulator();
+    private final Accumulator response = new Accumulator();
+    private final Map<String, Double> statistics = new LinkedHashMap<>();
+    private int completed;
+    private int firstArrival = Integer.MAX_VALUE;
+    private int lastEnd = Integer.MIN_VALUE;
+    private long busyTime;
+    private long contextSwitches;
+    // Last process per core; NONE until the core has run something
+    private int[] lastPids = {NONE};
+    private int cores = 1;
+
+    /**
+     * @param processCount number of processes in the workload; means are
+     *                     taken over this count, like {@link ResultCollector}.
+     */
+    public MetricsCollector(int processCount) {
+        this(processCount, 1);
+    }
+
+    /**
+     * @param cores number of simulated CPUs, including any that stay idle;
+     *              utilization is averaged over them
+     */
+    public MetricsCollector(int processCount, int cores) {
+        this.processCount = processCount;
+        this.cores = Math.max(1, cores);
+    }
+
+    @Override
+    public void slice(int startTime, int endTime, int pid) {
+        slice(startTime, endTime, pid, 0);
+    }
+
+    @Override
+    public void slice(int startTime, int endTime, int pid, int core) {
+        busyTime += endTime - startTime;
+        if (core >= lastPids.length) {
+            int oldLength = lastPids.length;
+            lastPids = Arrays.copyOf(lastPids, Math.max(core + 1, 2 * oldLength));
+            Arrays.fill(lastPids, oldLength, lastPids.length, NONE);
+        }
+        if (lastPids[core] != NONE && lastPids[core] != pid) {
+            contextSwitches++;
+        }
+        lastPids[core] = pid;
+        cores = Math.max(cores, core + 1);
+    }
+
+    @Override
+    public void completed(int pid, int arrivalTime, int burstTime, int startTime, int endTime) {
+        int turnaroundTime = endTime - arrivalTime;
+        waiting.add(turnaroundTime - burstTime);
+        turnaround.add(turnaroundTime);
+        response.add(startTime - arrivalTime);
+        firstArrival = Math.min(firstArrival, arrivalTime);
+        lastEnd = Math.max(lastEnd, endTime);
+        completed++;
+    }
+
+    @Override
+    public void statistic(String name, double value) {
+        statistics.put(name, value);
+    }
+
+    public ScheduleMetrics toMetrics() {
+        long makespan = completed > 0 ? (long) lastEnd - firstArrival : 0;
+        return new ScheduleMetrics(processCount, completed,
+                waiting.summarize(processCount), turnaround.summarize(processCount),
+                response.summarize(processCount), makespan, busyTime, contextSwitches, cores, statistics);
+    }
+
+    private static class Accumulator {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private long sum;
+        private int min = Integer.MAX_VALUE;
+        private int max = Integer.MIN_VALUE;
+
+        void add(int value) {
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            histogram.record(value);
+        }
+
+        MetricSummary summarize(int processCount) {
+            if (histogram.getTotal() == 0) {
+                return new MetricSummary(0, 0, 0, 0, 0, 0);
+            }
+            return new MetricSummary((double) sum / processCount, min, max,
+                    percentile(0.50), percentile(0.90), percentile(0.99));
+        }
+
+        // Bucket bounds may overshoot; the exact extremes are known
+        private int percentile(double quantile) {
+            return Math.max(min, Math.min(max, histogram.valueAtQuantile(quantile)));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package Algorithms;
+
+import Models.ProcessTable;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Shared engine for the non-preemptive "pick the smallest key" policies
+ * (SJF, Priority). Arrivals are fed from an arrival-sorted cursor into a
+ * heap ordered by key, then arrival time, then process id.
+ */
+class NonPreemptiveScheduler {
+
+    static void schedule(ProcessTable processes, IntUnaryOperator key, ScheduleSink sink) {
+        int n = processes.size();
+        int[] order = processes.arrivalOrder();
+        IndexHeap ready = new IndexHeap(n, readyOrder(processes, key));
+
+        int currentTime = 0;
+        int nextArrival = 0;
+
+        while (nextArrival < n || !ready.isEmpty()) {
+            if (ready.isEmpty() && processes.getArrivalTime(order[nextArrival]) > currentTime) {
+                // CPU idle: jump straight to the next arrival
+                currentTime = processes.getArrivalTime(order[nextArrival]);
+            }
+            while (nextArrival < n && processes.getArrivalTime(order[nextArrival]) <= currentTime) {
+                ready.push(order[nextArrival++]);
+            }
+
+            int next = ready.pop();
+            int startTime = currentTime;
+            int endTime = currentTime + processes.getBurstTime(next);
+
+            int pid = processes.getId(next);
+            sink.slice(startTime, endTime, pid);
+            sink.completed(pid, processes.getArrivalTime(next), processes.getBurstTime(next), startTime, endTime);
+            currentTime = endTime;
+        }
+    }
+
+    /** Smallest key first; ties go to the earlier arrival, then the lower id, then the earlier row. */
+    static IndexHeap.IndexOrder readyOrder(ProcessTable processes, IntUnaryOperator key) {
+        return (a, b) -> {
+            int ka = key.applyAsInt(a);
+            int kb = key.applyAsInt(b);
+            if (ka != kb) return Integer.compare(ka, kb);
+            int arrivalA = processes.getArrivalTime(a);
+            int arrivalB = processes.getArrivalTime(b);
+            if (arrivalA != arrivalB) return Integer.compare(arrivalA, arrivalB);
+            int idA = processes.getId(a);
+            int idB = processes.getId(b);
+            if (idA != idB) return Integer.compare(idA, idB);
+            return Integer.compare(a, b);
+        };
+    }
+}
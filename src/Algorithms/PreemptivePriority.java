@@ -0,0 +1,37 @@
+package Algorithms;
+
+import Models.Process;
+import Models.ProcessTable;
+import Models.SchedulingResult;
+import java.util.*;
+
+/**
+ * Preemptive Priority: a newly arrived process takes the CPU if its priority
+ * number is lower than the running process's.
+ */
+public class PreemptivePriority implements SchedulingAlgorithm {
+    public static SchedulingResult schedule(List<Process> processes) {
+        return new PreemptivePriority().schedule(processes, new SchedulerConfig());
+    }
+
+    @Override
+    public String getName() {
+        return "Preemptive Priority";
+    }
+
+    @Override
+    public boolean isPreemptive() {
+        return true;
+    }
+
+    @Override
+    public boolean needsQuantum() {
+        return false;
+    }
+
+    @Override
+    public void schedule(ProcessTable processes, SchedulerConfig config, ScheduleSink sink) {
+        // Lowest priority number first; ties go to the earlier arrival, then the lower id
+        PreemptiveScheduler.schedule(processes, (index, remaining) -> processes.getPriority(index), sink);
+    }
+}
@@ -0,0 +1,99 @@
+package Algorithms;
+
+import Models.ProcessTable;
+
+/**
+ * Shared engine for the preemptive "run the smallest key" policies (SRTF,
+ * preemptive Priority). It is event-driven rather than tick-driven: the
+ * running process advances straight to its completion or to the next
+ * arrival, whichever comes first, and an arrival only preempts if it orders
+ * strictly before the running process. The cost is
+ * O((n + preemptions) log n).
+ */
+class PreemptiveScheduler {
+
+    interface Key {
+        /** Scheduling key of process {@code index} with {@code remaining} time left; smaller runs first. */
+        int of(int index, int remaining);
+    }
+
+    static void schedule(ProcessTable processes, Key key, ScheduleSink sink) {
+        int n = processes.size();
+        int[] order = processes.arrivalOrder();
+        int[] remaining = new int[n];
+        int[] startTimes = new int[n];
+        for (int i = 0; i < n; i++) {
+            remaining[i] = processes.getBurstTime(i);
+            startTimes[i] = -1; // not started yet
+        }
+
+        // Key, then arrival time, then process id; remaining time only changes while a process runs
+        IndexHeap.IndexOrder before = (a, b) -> {
+            int ka = key.of(a, remaining[a]);
+            int kb = key.of(b, remaining[b]);
+            if (ka != kb) return Integer.compare(ka, kb);
+            int arrivalA = processes.getArrivalTime(a);
+            int arrivalB = processes.getArrivalTime(b);
+            if (arrivalA != arrivalB) return Integer.compare(arrivalA, arrivalB);
+            int idA = processes.getId(a);
+            int idB = processes.getId(b);
+            if (idA != idB) return Integer.compare(idA, idB);
+            return Integer.compare(a, b);
+        };
+        IndexHeap ready = new IndexHeap(n, before);
+
+        int currentTime = 0;
+        int nextArrival = 0;
+        int running = -1;
+        int sliceStart = 0;
+
+        while (true) {
+            while (nextArrival < n && processes.getArrivalTime(order[nextArrival]) <= currentTime) {
+                ready.push(order[nextArrival++]);
+            }
+
+            if (running < 0) {
+                if (ready.isEmpty()) {
+                    if (nextArrival == n) break;
+                    // CPU idle: jump straight to the next arrival
+                    currentTime = processes.getArrivalTime(order[nextArrival]);
+                    continue;
+                }
+                running = ready.pop();
+                sliceStart = currentTime;
+                if (startTimes[running] < 0) {
+                    startTimes[running] = currentTime;
+                }
+            }
+
+            // Run until completion or the next arrival
+            int finish = currentTime + remaining[running];
+            int eventTime = nextArrival < n
+                    ? Math.min(finish, processes.getArrivalTime(order[nextArrival]))
+                    : finish;
+            remaining[running] -= eventTime - currentTime;
+            currentTime = eventTime;
+
+            int pid = processes.getId(running);
+            if (remaining[running] == 0) {
+                if (currentTime > sliceStart) {
+                    sink.slice(sliceStart, currentTime, pid);
+                }
+                sink.completed(pid, processes.getArrivalTime(running), processes.getBurstTime(running),
+                        startTimes[running], currentTime);
+                running = -1;
+                continue;
+            }
+
+            // Arrivals at this instant may preempt the running process
+            while (nextArrival < n && processes.getArrivalTime(order[nextArrival]) <= currentTime) {
+                ready.push(order[nextArrival++]);
+            }
+            if (!ready.isEmpty() && before.compare(ready.peek(), running) < 0) {
+                sink.slice(sliceStart, currentTime, pid);
+                ready.push(running);
+                running = -1;
+            }
+        }
+    }
+}
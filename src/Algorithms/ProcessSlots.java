@@ -0,0 +1,48 @@
+package Algorithms;
+
+import Models.ProcessStream;
+import java.util.Arrays;
+
+/**
+ * Columns for the processes a streaming engine currently holds, addressed
+ * by slot. Slots of finished processes are reused, so memory follows the
+ * number of unfinished processes rather than the length of the stream.
+ * Engines read the arrays directly; they may be replaced when they grow.
+ */
+class ProcessSlots {
+    int[] ids = new int[16];
+    int[] arrivalTimes = new int[16];
+    int[] burstTimes = new int[16];
+    int[] remainingTimes = new int[16];
+    int[] startTimes = new int[16];
+    private final IntDeque free = new IntDeque(16);
+    private int count;
+
+    /** Copies the stream's current process into a slot, with its full burst remaining. */
+    int admit(ProcessStream processes) {
+        int slot;
+        if (!free.isEmpty()) {
+            slot = free.pollLast();
+        } else {
+            if (count == ids.length) {
+                int capacity = 2 * count;
+                ids = Arrays.copyOf(ids, capacity);
+                arrivalTimes = Arrays.copyOf(arrivalTimes, capacity);
+                burstTimes = Arrays.copyOf(burstTimes, capacity);
+                remainingTimes = Arrays.copyOf(remainingTimes, capacity);
+                startTimes = Arrays.copyOf(startTimes, capacity);
+            }
+            slot = count++;
+        }
+        ids[slot] = processes.getId();
+        arrivalTimes[slot] = processes.getArrivalTime();
+        burstTimes[slot] = processes.getBurstTime();
+        remainingTimes[slot] = burstTimes[slot];
+        startTimes[slot] = -1; // not started yet
+        return slot;
+    }
+
+    void release(int slot) {
+        free.addLast(slot);
+    }
+}
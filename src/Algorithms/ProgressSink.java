@@ -0,0 +1,55 @@
+package Algorithms;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Forwards everything to another sink and reports progress every
+ * {@code step} completed processes. The progress callback receives the
+ * number of completions since its previous call; it may throw (e.g. a
+ * {@link java.util.concurrent.CancellationException}) to abort the
+ * simulation.
+ */
+public class ProgressSink implements ScheduleSink {
+    private final ScheduleSink delegate;
+    private final int step;
+    private final IntConsumer progress;
+    private int pending;
+
+    public ProgressSink(ScheduleSink delegate, int step, IntConsumer progress) {
+        this.delegate = delegate;
+        this.step = Math.max(1, step);
+        this.progress = progress;
+    }
+
+    @Override
+    public void slice(int startTime, int endTime, int pid) {
+        delegate.slice(startTime, endTime, pid);
+    }
+
+    @Override
+    public void slice(int startTime, int endTime, int pid, int core) {
+        delegate.slice(startTime, endTime, pid, core);
+    }
+
+    @Override
+    public void completed(int pid, int arrivalTime, int burstTime, int startTime, int endTime) {
+        delegate.completed(pid, arrivalTime, burstTime, startTime, endTime);
+        if (++pending == step) {
+            progress.accept(pending);
+            pending = 0;
+        }
+    }
+
+    @Override
+    public void statistic(String name, double value) {
+        delegate.statistic(name, value);
+    }
+
+    /** Reports completions that have not reached a full step yet. */
+    public void flush() {
+        if (pending > 0) {
+            progress.accept(pending);
+            pending = 0;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package Algorithms;
+
+import Models.GanttTimeline;
+import Models.ProcessResult;
+import Models.SchedulingResult;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sink that materializes the Gantt chart (as a merged {@link GanttTimeline})
+ * and per-process results.
+ */
+public class ResultCollector implements ScheduleSink {
+    private final int processCount;
+    private final GanttTimeline gantt = new GanttTimeline();
+    private final List<ProcessResult> processResults = new ArrayList<>();
+    private final Map<String, Double> statistics = new LinkedHashMap<>();
+    private double totalWaiting = 0;
+    private double totalTurnaround = 0;
+
+    /**
+     * @param processCount number of processes in the workload; averages are
+     *                     taken over this count.
+     */
+    public ResultCollector(int processCount) {
+        this.processCount = processCount;
+    }
+
+    @Override
+    public void slice(int startTime, int endTime, int pid) {
+        gantt.append(startTime, endTime, pid);
+    }
+
+    @Override
+    public void slice(int startTime, int endTime, int pid, int core) {
+        gantt.append(startTime, endTime, pid, core);
+    }
+
+    @Override
+    public void completed(int pid, int arrivalTime, int burstTime, int startTime, int endTime) {
+        int turnaround = endTime - arrivalTime;
+        // Waiting time = turnaround - burst time (equals start - arrival when not preempted)
+        totalWaiting += turnaround - burstTime;
+        totalTurnaround += turnaround;
+        processResults.add(new ProcessResult(pid, arrivalTime, burstTime, startTime, endTime));
+    }
+
+    @Override
+    public void statistic(String name, double value) {
+        statistics.put(name, value);
+    }
+
+    public SchedulingResult toResult() {
+        double avgWaiting = totalWaiting / processCount;
+        double avgTurnaround = totalTurnaround / processCount;
+        return new SchedulingResult(avgWaiting, avgTurnaround, gantt, processResults, statistics);
+    }
+}
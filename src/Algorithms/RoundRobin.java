@@ -1,137 +1,104 @@
 package Algorithms;
 
-import Models.GanttBlock;
 import Models.Process;
-import Models.ProcessResult;
+import Models.ProcessStream;
+import Models.ProcessTable;
 import Models.SchedulingResult;
 import java.util.*;
 
-public class RoundRobin {
+public class RoundRobin implements StreamingAlgorithm {
     public static SchedulingResult schedule(List<Process> processes, int timeQuantum) {
-        int n = processes.size();
-
-        Queue<Process> queue = new LinkedList<>();
-        List<GanttBlock> gantt = new ArrayList<>();
-        List<ProcessResult> processResults = new ArrayList<>();
-
-        // Arrays to track remaining times, waiting times, last queued times, start times
-        int[] remainingTimes = new int[n];
-        int[] lastQueuedTimes = new int[n];
-        int[] startTimes = new int[n];
-        boolean[] started = new boolean[n];
-        int[] waitingTimes = new int[n]; // To store total waiting time for each process
-
-        // Initialize remaining times and last queued times
-        for (int i = 0; i < n; i++) {
-            remainingTimes[i] = processes.get(i).getBurstTime();
-            lastQueuedTimes[i] = processes.get(i).getArrivalTime();
-            startTimes[i] = -1; // not started yet
-            waitingTimes[i] = 0;
-        }
+        return new RoundRobin().schedule(processes, new SchedulerConfig(timeQuantum));
+    }
 
-        int currentTime = 0;
-        double totalWaiting = 0;
-        double totalTurnaround = 0;
+    // Overloaded method with default quantum
+    public static SchedulingResult schedule(List<Process> processes) {
+        return schedule(processes, SchedulerConfig.DEFAULT_QUANTUM);
+    }
+
+    @Override
+    public String getName() {
+        return "Round Robin";
+    }
+
+    @Override
+    public boolean isPreemptive() {
+        return true;
+    }
+
+    @Override
+    public boolean needsQuantum() {
+        return true;
+    }
+
+    @Override
+    public void schedule(ProcessTable processes, SchedulerConfig config, ScheduleSink sink) {
+        schedule(processes.stream(), config, sink);
+    }
 
-        Set<Process> inQueueSet = new HashSet<>();
+    @Override
+    public void schedule(ProcessStream processes, SchedulerConfig config, ScheduleSink sink) {
+        int timeQuantum = config.getQuantum();
+
+        // Only arrived, unfinished processes are held
+        ProcessSlots slots = new ProcessSlots();
+
+        // Ring buffer of slots; every process is queued at most once at a time
+        IntDeque queue = new IntDeque(16);
+
+        // The stream's current process is the next arrival, not yet admitted
+        boolean more = processes.next();
+        int currentTime = 0;
 
         while (true) {
-            // Check if all processes are done
-            boolean allDone = true;
-            for (int rem : remainingTimes) {
-                if (rem > 0) {
-                    allDone = false;
-                    break;
-                }
-            }
-            if (allDone) break;
-
-            // Add newly arrived processes at current time
-            for (int i = 0; i < n; i++) {
-                Process p = processes.get(i);
-                if (p.getArrivalTime() == currentTime && remainingTimes[i] > 0 && !inQueueSet.contains(p)) {
-                    queue.add(p);
-                    inQueueSet.add(p);
-                    lastQueuedTimes[i] = currentTime;
+            // Admit everything that has arrived by now
+            while (more && processes.getArrivalTime() <= currentTime) {
+                if (processes.getBurstTime() > 0) {
+                    queue.addLast(slots.admit(processes));
                 }
+                more = processes.next();
             }
 
             if (queue.isEmpty()) {
-                currentTime++;
+                if (!more) break;
+                // CPU idle: jump straight to the next arrival
+                currentTime = Math.max(currentTime, processes.getArrivalTime());
                 continue;
             }
 
-            Process currentProcess = queue.poll();
-            int index = processes.indexOf(currentProcess);
-            int startTime = currentTime;
-            if (!started[index]) {
-                startTimes[index] = currentTime;
-                started[index] = true;
+            int slot = queue.pollFirst();
+
+            if (slots.startTimes[slot] < 0) {
+                slots.startTimes[slot] = currentTime;
             }
 
-            int execTime = Math.min(remainingTimes[index], timeQuantum);
+            int execTime = Math.min(slots.remainingTimes[slot], timeQuantum);
             int timeBeforeExecution = currentTime;
             currentTime += execTime;
 
             // Record in Gantt chart
-            gantt.add(new GanttBlock(timeBeforeExecution, currentTime, "P" + currentProcess.getId()));
-
-            // Update waiting time for the process
-            int waitTimeIncrement = timeBeforeExecution - lastQueuedTimes[index];
-            waitingTimes[index] += waitTimeIncrement;
-
-            // Update last queued time
-            lastQueuedTimes[index] = currentTime;
-
-            // Check for new arrivals during execution
-            for (int t = timeBeforeExecution; t < currentTime; t++) {
-                for (int i = 0; i < n; i++) {
-                    Process p = processes.get(i);
-                    if (p.getArrivalTime() == t && remainingTimes[i] > 0 && !inQueueSet.contains(p)) {
-                        queue.add(p);
-                        inQueueSet.add(p);
-                        lastQueuedTimes[i] = t;
-                    }
+            sink.slice(timeBeforeExecution, currentTime, slots.ids[slot]);
+
+            // Processes that arrived during the slice queue up ahead of the preempted one
+            while (more && processes.getArrivalTime() < currentTime) {
+                if (processes.getBurstTime() > 0) {
+                    queue.addLast(slots.admit(processes));
                 }
+                more = processes.next();
             }
 
             // Decrease remaining time
-            remainingTimes[index] -= execTime;
+            slots.remainingTimes[slot] -= execTime;
 
             // If process not finished, re-queue
-            if (remainingTimes[index] > 0) {
-                queue.add(currentProcess);
-                inQueueSet.add(currentProcess);
-                lastQueuedTimes[index] = currentTime;
+            if (slots.remainingTimes[slot] > 0) {
+                queue.addLast(slot);
             } else {
                 // Process finished
-                int turnaroundTime = currentTime - processes.get(index).getArrivalTime();
-
-                // Total waiting time = turnaround - burst time
-                int burstTime = processes.get(index).getBurstTime();
-                int waitingTime = turnaroundTime - burstTime;
-
-                totalWaiting += waitingTime;
-                totalTurnaround += turnaroundTime;
-
-                processResults.add(new ProcessResult(
-                        currentProcess.getId(),
-                        currentProcess.getArrivalTime(),
-                        burstTime,
-                        startTimes[index],
-                        currentTime
-                ));
+                sink.completed(slots.ids[slot], slots.arrivalTimes[slot], slots.burstTimes[slot],
+                        slots.startTimes[slot], currentTime);
+                slots.release(slot);
             }
         }
-
-        double avgWaiting = totalWaiting / n;
-        double avgTurnaround = totalTurnaround / n;
-
-        return new SchedulingResult(avgWaiting, avgTurnaround, gantt, processResults);
-    }
-
-    // Overloaded method with default quantum
-    public static SchedulingResult schedule(List<Process> processes) {
-        return schedule(processes, 4);
     }
 }
\ No newline at end of file
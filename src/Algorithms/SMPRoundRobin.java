@@ -0,0 +1,204 @@
+package Algorithms;
+
+import Models.Process;
+import Models.ProcessTable;
+import Models.SchedulingResult;
+import java.util.*;
+
+/**
+ * Round Robin on {@link SchedulerConfig#getCores()} CPUs. With
+ * {@link SchedulerConfig.LoadBalancing#GLOBAL_QUEUE} all cores take work
+ * from one shared queue. With {@link SchedulerConfig.LoadBalancing#WORK_STEALING}
+ * arrivals go to the queue of the next idle core (or the next core in
+ * rotation when none is idle), a preempted process
+ * goes back to the queue of the core it ran on, and an idle core with an
+ * empty queue steals from the tail of the longest one.
+ *
+ * The simulation is event-driven: a heap of running cores ordered by slice
+ * end and the arrival cursor decide the next instant; at each instant slice
+ * ends are handled first (lowest core first), then arrivals, then idle cores
+ * are dispatched in core order, each preferring its own queue before any
+ * core steals. On one core it behaves exactly like
+ * {@link RoundRobin}.
+ *
+ * Statistics: utilization of every core over the makespan, migrations
+ * (a process running on a different core than last time) and steals.
+ */
+public class SMPRoundRobin implements SchedulingAlgorithm {
+    public static SchedulingResult schedule(List<Process> processes, int timeQuantum, int cores) {
+        SchedulerConfig config = new SchedulerConfig(timeQuantum);
+        config.setCores(cores);
+        return new SMPRoundRobin().schedule(processes, config);
+    }
+
+    @Override
+    public String getName() {
+        return "SMP Round Robin";
+    }
+
+    @Override
+    public boolean isPreemptive() {
+        return true;
+    }
+
+    @Override
+    public boolean needsQuantum() {
+        return true;
+    }
+
+    @Override
+    public boolean usesCores() {
+        return true;
+    }
+
+    @Override
+    public void schedule(ProcessTable processes, SchedulerConfig config, ScheduleSink sink) {
+        int n = processes.size();
+        int timeQuantum = config.getQuantum();
+        int cores = config.getCores();
+        boolean stealing = config.getLoadBalancing() == SchedulerConfig.LoadBalancing.WORK_STEALING;
+
+        int[] remainingTimes = new int[n];
+        int[] startTimes = new int[n];
+        int[] lastCore = new int[n];
+        int pending = 0;
+        int firstArrival = Integer.MAX_VALUE;
+        for (int i = 0; i < n; i++) {
+            remainingTimes[i] = processes.getBurstTime(i);
+            startTimes[i] = -1; // not started yet
+            lastCore[i] = -1;
+            if (remainingTimes[i] > 0) {
+                pending++;
+                firstArrival = Math.min(firstArrival, processes.getArrivalTime(i));
+            }
+        }
+
+        // One queue per core when stealing, otherwise a single shared queue
+        IntDeque[] queues = new IntDeque[stealing ? cores : 1];
+        for (int q = 0; q < queues.length; q++) {
+            queues[q] = new IntDeque(Math.max(16, n / queues.length));
+        }
+        int queued = 0;
+        int nextPlacement = 0; // rotating start for placing arrivals
+
+        int[] running = new int[cores];
+        int[] sliceStart = new int[cores];
+        int[] sliceEnd = new int[cores];
+        long[] busyTime = new long[cores];
+        Arrays.fill(running, -1);
+        BitSet idle = new BitSet(cores);
+        idle.set(0, cores);
+        // Cores that went idle or were given an arrival at the current instant
+        BitSet touched = new BitSet(cores);
+        IndexHeap busy = new IndexHeap(cores, (a, b) -> {
+            if (sliceEnd[a] != sliceEnd[b]) return Integer.compare(sliceEnd[a], sliceEnd[b]);
+            return Integer.compare(a, b);
+        });
+
+        int[] order = processes.arrivalOrder();
+        int nextArrival = 0;
+        int currentTime = 0;
+        int lastEnd = 0;
+        long migrations = 0;
+        long steals = 0;
+
+        while (pending > 0) {
+            long nextEnd = busy.isEmpty() ? Long.MAX_VALUE : sliceEnd[busy.peek()];
+            long nextArrivalTime = nextArrival < n ? processes.getArrivalTime(order[nextArrival]) : Long.MAX_VALUE;
+            currentTime = (int) Math.max(currentTime, Math.min(nextEnd, nextArrivalTime));
+
+            // Slices ending now
+            while (!busy.isEmpty() && sliceEnd[busy.peek()] <= currentTime) {
+                int core = busy.pop();
+                int index = running[core];
+                running[core] = -1;
+                idle.set(core);
+                touched.set(core);
+                sink.slice(sliceStart[core], currentTime, processes.getId(index), core);
+                busyTime[core] += currentTime - sliceStart[core];
+
+                if (remainingTimes[index] == 0) {
+                    pending--;
+                    lastEnd = currentTime;
+                    sink.completed(processes.getId(index), processes.getArrivalTime(index),
+                            processes.getBurstTime(index), startTimes[index], currentTime);
+                } else {
+                    queues[stealing ? core : 0].addLast(index);
+                    queued++;
+                }
+            }
+
+            // Arrivals now, after the preempted processes like in RoundRobin
+            while (nextArrival < n && processes.getArrivalTime(order[nextArrival]) <= currentTime) {
+                int i = order[nextArrival++];
+                if (remainingTimes[i] > 0) {
+                    if (stealing) {
+                        // Prefer an idle core, otherwise rotate over all of them
+                        int target = idle.nextSetBit(nextPlacement);
+                        if (target < 0) target = idle.nextSetBit(0);
+                        if (target < 0) target = nextPlacement;
+                        queues[target].addLast(i);
+                        touched.set(target);
+                        nextPlacement = (target + 1) % cores;
+                    } else {
+                        queues[0].addLast(i);
+                    }
+                    queued++;
+                }
+            }
+
+            // Idle cores pick up work in core order: first from their own queue,
+            // then (work stealing) from the longest queue of another core. Cores
+            // idle since an earlier instant have empty queues, so only the
+            // touched ones can find work of their own.
+            for (int pass = stealing ? 0 : 1; pass < 2 && queued > 0; pass++) {
+                BitSet candidates = pass == 0 ? touched : idle;
+                for (int core = candidates.nextSetBit(0); core >= 0 && queued > 0;
+                     core = candidates.nextSetBit(core + 1)) {
+                    if (!idle.get(core)) continue;
+                    IntDeque own = queues[stealing ? core : 0];
+                    int index;
+                    if (!own.isEmpty()) {
+                        index = own.pollFirst();
+                    } else if (pass == 0) {
+                        continue;
+                    } else {
+                        IntDeque victim = own;
+                        for (IntDeque queue : queues) {
+                            if (queue.size() > victim.size()) victim = queue;
+                        }
+                        index = victim.pollLast();
+                        steals++;
+                    }
+                    queued--;
+
+                    if (lastCore[index] >= 0 && lastCore[index] != core) {
+                        migrations++;
+                    }
+                    lastCore[index] = core;
+                    if (startTimes[index] < 0) {
+                        startTimes[index] = currentTime;
+                    }
+
+                    int execTime = Math.min(remainingTimes[index], timeQuantum);
+                    remainingTimes[index] -= execTime;
+                    running[core] = index;
+                    sliceStart[core] = currentTime;
+                    sliceEnd[core] = currentTime + execTime;
+                    idle.clear(core);
+                    busy.push(core);
+                }
+            }
+            touched.clear();
+        }
+
+        long makespan = pending == 0 && firstArrival != Integer.MAX_VALUE ? (long) lastEnd - firstArrival : 0;
+        for (int core = 0; core < cores; core++) {
+            sink.statistic("CPU " + core + " utilization", makespan > 0 ? (double) busyTime[core] / makespan : 0);
+        }
+        sink.statistic("Migrations", migrations);
+        if (stealing) {
+            sink.statistic("Steals", steals);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package Algorithms;
+
+import Models.Process;
+import Models.ProcessTable;
+import Models.SchedulingResult;
+import java.util.*;
+
+/**
+ * Shortest Remaining Time First: preemptive SJF. A newly arrived process
+ * takes the CPU if its burst is shorter than what the running process has left.
+ */
+public class SRTF implements SchedulingAlgorithm {
+    public static SchedulingResult schedule(List<Process> processes) {
+        return new SRTF().schedule(processes, new SchedulerConfig());
+    }
+
+    @Override
+    public String getName() {
+        return "SRTF";
+    }
+
+    @Override
+    public boolean isPreemptive() {
+        return true;
+    }
+
+    @Override
+    public boolean needsQuantum() {
+        return false;
+    }
+
+    @Override
+    public void schedule(ProcessTable processes, SchedulerConfig config, ScheduleSink sink) {
+        // Least remaining time first; ties go to the earlier arrival, then the lower id
+        PreemptiveScheduler.schedule(processes, (index, remaining) -> remaining, sink);
+    }
+}
@@ -0,0 +1,29 @@
+package Algorithms;
+
+/**
+ * Receives the output of a {@link SchedulingAlgorithm} as it is produced.
+ */
+public interface ScheduleSink {
+
+    /** Process {@code pid} ran on the CPU from {@code startTime} to {@code endTime}. */
+    void slice(int startTime, int endTime, int pid);
+
+    /**
+     * Process {@code pid} ran on CPU {@code core}. Multi-core algorithms call
+     * this instead of {@link #slice(int, int, int)}; slices of one core arrive
+     * in time order. Sinks that do not track cores treat it as a plain slice.
+     */
+    default void slice(int startTime, int endTime, int pid, int core) {
+        slice(startTime, endTime, pid);
+    }
+
+    /** Process {@code pid} finished; {@code startTime} is when it first ran. */
+    void completed(int pid, int arrivalTime, int burstTime, int startTime, int endTime);
+
+    /**
+     * Algorithm-specific summary value (e.g. per-level residency for MLFQ),
+     * reported once at the end of the run. Ignored unless a sink keeps it.
+     */
+    default void statistic(String name, double value) {
+    }
+}
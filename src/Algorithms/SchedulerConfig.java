@@ -0,0 +1,223 @@
+package Algorithms;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Tunable settings passed to every {@link SchedulingAlgorithm}. Policies
+ * ignore the settings they do not use.
+ */
+public class SchedulerConfig {
+    public static final int DEFAULT_QUANTUM = 4;
+    public static final int DEFAULT_LEVELS = 3;
+    public static final int DEFAULT_BOOST_PERIOD = 100;
+    /** One CPU, so multi-core policies compare fairly with the others unless asked otherwise. */
+    public static final int DEFAULT_CORES = 1;
+    public static final int DEFAULT_TARGET_LATENCY = 24;
+    public static final int DEFAULT_MIN_GRANULARITY = 3;
+
+    /** How multi-core algorithms share work between CPUs. */
+    public enum LoadBalancing {
+        /** One run queue shared by all cores. */
+        GLOBAL_QUEUE("Global queue"),
+        /** A run queue per core; an idle core steals from the longest queue. */
+        WORK_STEALING("Work stealing");
+
+        private final String label;
+
+        LoadBalancing(String label) {
+            this.label = label;
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    private int quantum;
+    private int[] levelQuanta; // null: derived from the quantum
+    private int boostPeriod = DEFAULT_BOOST_PERIOD;
+    private int cores = DEFAULT_CORES;
+    private LoadBalancing loadBalancing = LoadBalancing.WORK_STEALING;
+    private int targetLatency = DEFAULT_TARGET_LATENCY;
+    private int minGranularity = DEFAULT_MIN_GRANULARITY;
+
+    public SchedulerConfig() {
+        this(DEFAULT_QUANTUM);
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code quantum} is not positive
+     */
+    public SchedulerConfig(int quantum) {
+        setQuantum(quantum);
+    }
+
+    /** Copy of {@code other}, for varying one setting without touching the original. */
+    public SchedulerConfig(SchedulerConfig other) {
+        this.quantum = other.quantum;
+        this.levelQuanta = other.levelQuanta;
+        this.boostPeriod = other.boostPeriod;
+        this.cores = other.cores;
+        this.loadBalancing = other.loadBalancing;
+        this.targetLatency = other.targetLatency;
+        this.minGranularity = other.minGranularity;
+    }
+
+    public int getQuantum() {
+        return quantum;
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code quantum} is not positive
+     */
+    public void setQuantum(int quantum) {
+        if (quantum <= 0) {
+            throw new IllegalArgumentException("Quantum must be positive: " + quantum);
+        }
+        this.quantum = quantum;
+    }
+
+    /**
+     * Quantum of each MLFQ level, top level first. Unless set explicitly,
+     * {@link #DEFAULT_LEVELS} levels whose quanta double from the quantum.
+     */
+    public int[] getLevelQuanta() {
+        if (levelQuanta != null) {
+            return levelQuanta.clone();
+        }
+        int[] quanta = new int[DEFAULT_LEVELS];
+        for (int level = 0; level < quanta.length; level++) {
+            // Saturate rather than overflow for very large quanta
+            quanta[level] = (int) Math.min(Integer.MAX_VALUE, (long) quantum << level);
+        }
+        return quanta;
+    }
+
+    /**
+     * @param quanta one positive quantum per level, or null to derive them from the quantum
+     * @throws IllegalArgumentException if no level is given or a quantum is not positive
+     */
+    public void setLevelQuanta(int... quanta) {
+        if (quanta != null) {
+            if (quanta.length == 0) {
+                throw new IllegalArgumentException("At least one level is required");
+            }
+            for (int q : quanta) {
+                if (q <= 0) throw new IllegalArgumentException("Level quantum must be positive: " + q);
+            }
+        }
+        this.levelQuanta = quanta == null ? null : quanta.clone();
+    }
+
+    /** Interval at which MLFQ moves every process back to the top level; 0 disables boosting. */
+    public int getBoostPeriod() {
+        return boostPeriod;
+    }
+
+    /**
+     * @param boostPeriod interval between MLFQ boosts, or 0 to disable boosting
+     * @throws IllegalArgumentException if {@code boostPeriod} is negative
+     */
+    public void setBoostPeriod(int boostPeriod) {
+        if (boostPeriod < 0) {
+            throw new IllegalArgumentException("Boost period must not be negative: " + boostPeriod);
+        }
+        this.boostPeriod = boostPeriod;
+    }
+
+    /** Number of CPUs simulated by multi-core algorithms. */
+    public int getCores() {
+        return cores;
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code cores} is not positive
+     */
+    public void setCores(int cores) {
+        if (cores < 1) {
+            throw new IllegalArgumentException("Core count must be positive: " + cores);
+        }
+        this.cores = cores;
+    }
+
+    public LoadBalancing getLoadBalancing() {
+        return loadBalancing;
+    }
+
+    public void setLoadBalancing(LoadBalancing loadBalancing) {
+        this.loadBalancing = loadBalancing;
+    }
+
+    /** Period in which CFS tries to run every runnable process once. */
+    public int getTargetLatency() {
+        return targetLatency;
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code targetLatency} is not positive
+     */
+    public void setTargetLatency(int targetLatency) {
+        if (targetLatency < 1) {
+            throw new IllegalArgumentException("Target latency must be positive: " + targetLatency);
+        }
+        this.targetLatency = targetLatency;
+    }
+
+    /** Shortest slice CFS gives a process, however many are runnable. */
+    public int getMinGranularity() {
+        return minGranularity;
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code minGranularity} is not positive
+     */
+    public void setMinGranularity(int minGranularity) {
+        if (minGranularity < 1) {
+            throw new IllegalArgumentException("Minimum granularity must be positive: " + minGranularity);
+        }
+        this.minGranularity = minGranularity;
+    }
+
+    /**
+     * Copy with the settings {@code algorithm} ignores reset to their
+     * defaults, so configurations that differ only in those compare equal.
+     * Algorithms that take no quantum ignore the MLFQ settings too; the CFS
+     * settings are always kept.
+     */
+    public SchedulerConfig relevantTo(SchedulingAlgorithm algorithm) {
+        SchedulerConfig relevant = new SchedulerConfig(this);
+        if (!algorithm.needsQuantum()) {
+            relevant.quantum = DEFAULT_QUANTUM;
+            relevant.levelQuanta = null;
+            relevant.boostPeriod = DEFAULT_BOOST_PERIOD;
+        }
+        if (!algorithm.usesCores()) {
+            relevant.cores = DEFAULT_CORES;
+            relevant.loadBalancing = new SchedulerConfig().loadBalancing;
+        }
+        return relevant;
+    }
+
+    /** Equal when every setting is, comparing the effective MLFQ level quanta. */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SchedulerConfig)) return false;
+        SchedulerConfig other = (SchedulerConfig) o;
+        return quantum == other.quantum
+                && boostPeriod == other.boostPeriod
+                && cores == other.cores
+                && loadBalancing == other.loadBalancing
+                && targetLatency == other.targetLatency
+                && minGranularity == other.minGranularity
+                && Arrays.equals(getLevelQuanta(), other.getLevelQuanta());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(quantum, boostPeriod, cores, loadBalancing, targetLatency, minGranularity,
+                Arrays.hashCode(getLevelQuanta()));
+    }
+}
@@ -0,0 +1,61 @@
+package Algorithms;
+
+import Models.Process;
+import Models.ProcessTable;
+import Models.ScheduleMetrics;
+import Models.SchedulingResult;
+import java.util.List;
+
+/**
+ * A scheduling policy that can be looked up through {@link AlgorithmRegistry}.
+ * Implementations report every executed slice and every completed process to a
+ * {@link ScheduleSink}; the default {@link #schedule(ProcessTable, SchedulerConfig)}
+ * collects them into a {@link SchedulingResult}, while {@link #measure} keeps
+ * only aggregate {@link ScheduleMetrics}. Algorithms work directly on a
+ * {@link ProcessTable}; the {@code List<Process>} overloads adapt to it.
+ */
+public interface SchedulingAlgorithm {
+
+    /** Display name, also used as the registry key (e.g. "Round Robin"). */
+    String getName();
+
+    /** True if a running process can be interrupted before it finishes. */
+    boolean isPreemptive();
+
+    /** True if the policy reads {@link SchedulerConfig#getQuantum()}. */
+    boolean needsQuantum();
+
+    /**
+     * True if the policy simulates several CPUs
+     * ({@link SchedulerConfig#getCores()}) and reports slices with their core.
+     */
+    default boolean usesCores() {
+        return false;
+    }
+
+    void schedule(ProcessTable processes, SchedulerConfig config, ScheduleSink sink);
+
+    default SchedulingResult schedule(ProcessTable processes, SchedulerConfig config) {
+        ResultCollector collector = new ResultCollector(processes.size());
+        schedule(processes, config, collector);
+        return collector.toResult();
+    }
+
+    /**
+     * Metrics-only run: no Gantt chart or per-process results are kept, so
+     * memory beyond the algorithm's own working state stays constant.
+     */
+    default ScheduleMetrics measure(ProcessTable processes, SchedulerConfig config) {
+        MetricsCollector collector = new MetricsCollector(processes.size(), usesCores() ? config.getCores() : 1);
+        schedule(processes, config, collector);
+        return collector.toMetrics();
+    }
+
+    default void schedule(List<Process> processes, SchedulerConfig config, ScheduleSink sink) {
+        schedule(ProcessTable.fromList(processes), config, sink);
+    }
+
+    default SchedulingResult schedule(List<Process> processes, SchedulerConfig config) {
+        return schedule(ProcessTable.fromList(processes), config);
+    }
+}
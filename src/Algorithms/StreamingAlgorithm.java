@@ -0,0 +1,26 @@
+package Algorithms;
+
+import Models.ProcessStream;
+import Models.ScheduleMetrics;
+
+/**
+ * A policy that can consume its workload as a {@link ProcessStream}, holding
+ * only the processes that have arrived and not yet finished. Combined with
+ * a {@link MetricsCollector} this schedules workloads that never fit in
+ * memory as a whole.
+ */
+public interface StreamingAlgorithm extends SchedulingAlgorithm {
+
+    void schedule(ProcessStream processes, SchedulerConfig config, ScheduleSink sink);
+
+    /**
+     * Metrics-only run over a stream.
+     *
+     * @param processCount number of processes the stream yields; means are taken over it
+     */
+    default ScheduleMetrics measure(ProcessStream processes, int processCount, SchedulerConfig config) {
+        MetricsCollector collector = new MetricsCollector(processCount);
+        schedule(processes, config, collector);
+        return collector.toMetrics();
+    }
+}
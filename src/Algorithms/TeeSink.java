@@ -0,0 +1,40 @@
+package Algorithms;
+
+/**
+ * Forwards every event to several sinks, in order.
+ */
+public class TeeSink implements ScheduleSink {
+    private final ScheduleSink[] sinks;
+
+    public TeeSink(ScheduleSink... sinks) {
+        this.sinks = sinks.clone();
+    }
+
+    @Override
+    public void slice(int startTime, int endTime, int pid) {
+        for (ScheduleSink sink : sinks) {
+            sink.slice(startTime, endTime, pid);
+        }
+    }
+
+    @Override
+    public void slice(int startTime, int endTime, int pid, int core) {
+        for (ScheduleSink sink : sinks) {
+            sink.slice(startTime, endTime, pid, core);
+        }
+    }
+
+    @Override
+    public void completed(int pid, int arrivalTime, int burstTime, int startTime, int endTime) {
+        for (ScheduleSink sink : sinks) {
+            sink.completed(pid, arrivalTime, burstTime, startTime, endTime);
+        }
+    }
+
+    @Override
+    public void statistic(String name, double value) {
+        for (ScheduleSink sink : sinks) {
+            sink.statistic(name, value);
+        }
+    }
+}
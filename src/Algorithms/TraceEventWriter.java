@@ -0,0 +1,223 @@
+package Algorithms;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sink that streams the schedule to a Chrome trace-event JSON file while the
+ * simulation runs, for chrome://tracing, Perfetto (ui.perfetto.dev) or any
+ * other trace viewer. One time unit is written as one microsecond.
+ *
+ * Slices become complete events on one "CPU k" track per core, with
+ * back-to-back slices of a process merged like in a {@link Models.GanttTimeline}.
+ * Every process becomes an async span from arrival to completion, with a
+ * "first run" instant, on the "Processes" track. Statistics are written into
+ * the trailing {@code otherData} object.
+ *
+ * Events are encoded straight into a direct buffer that is drained to the
+ * channel whenever it fills, so memory does not grow with the schedule.
+ * I/O errors during the run surface as {@link UncheckedIOException}.
+ */
+public class TraceEventWriter implements ScheduleSink, Closeable {
+    static final int BUFFER_SIZE = 1 << 16;
+    // Room for any one event, so that events are rarely split across drains
+    private static final int MAX_EVENT = 512;
+    private static final int CPU_PID = 0;
+    private static final int PROCESS_PID = 1;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final Map<String, Double> statistics = new LinkedHashMap<>();
+    // Slice not yet written, per core, so that it can still be extended
+    private int[] pendingStart = new int[0];
+    private int[] pendingEnd = new int[0];
+    private int[] pendingPid = new int[0];
+    private boolean[] pending = new boolean[0];
+    private boolean closed;
+
+    public TraceEventWriter(Path path) throws IOException {
+        this(FileChannel.open(path, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING));
+    }
+
+    /** Writes to {@code channel}, which is closed by {@link #close()}. */
+    public TraceEventWriter(WritableByteChannel channel) {
+        this.channel = channel;
+        put("{\"traceEvents\":[\n");
+        put("{\"name\":\"process_name\",\"ph\":\"M\",\"pid\":").put(CPU_PID)
+                .put(",\"args\":{\"name\":\"CPUs\"}},\n");
+        put("{\"name\":\"process_name\",\"ph\":\"M\",\"pid\":").put(PROCESS_PID)
+                .put(",\"args\":{\"name\":\"Processes\"}}");
+    }
+
+    @Override
+    public void slice(int startTime, int endTime, int pid) {
+        slice(startTime, endTime, pid, 0);
+    }
+
+    @Override
+    public void slice(int startTime, int endTime, int pid, int core) {
+        if (core >= pending.length) {
+            addCores(core + 1);
+        }
+        if (pending[core]) {
+            if (pendingPid[core] == pid && pendingEnd[core] == startTime) {
+                pendingEnd[core] = endTime;
+                return;
+            }
+            writeSlice(core);
+        }
+        pending[core] = true;
+        pendingStart[core] = startTime;
+        pendingEnd[core] = endTime;
+        pendingPid[core] = pid;
+    }
+
+    @Override
+    public void completed(int pid, int arrivalTime, int burstTime, int startTime, int endTime) {
+        reserve(MAX_EVENT);
+        put(",\n{\"name\":\"P").put(pid).put("\",\"cat\":\"process\",\"ph\":\"b\",\"id\":").put(pid)
+                .put(",\"pid\":").put(PROCESS_PID).put(",\"tid\":0,\"ts\":").put(arrivalTime)
+                .put(",\"args\":{\"burst\":").put(burstTime)
+                .put(",\"response\":").put(startTime - arrivalTime)
+                .put(",\"waiting\":").put(endTime - arrivalTime - burstTime).put("}}");
+        put(",\n{\"name\":\"first run\",\"cat\":\"process\",\"ph\":\"n\",\"id\":").put(pid)
+                .put(",\"pid\":").put(PROCESS_PID).put(",\"tid\":0,\"ts\":").put(startTime).put('}');
+        put(",\n{\"name\":\"P").put(pid).put("\",\"cat\":\"process\",\"ph\":\"e\",\"id\":").put(pid)
+                .put(",\"pid\":").put(PROCESS_PID).put(",\"tid\":0,\"ts\":").put(endTime).put('}');
+    }
+
+    @Override
+    public void statistic(String name, double value) {
+        statistics.put(name, value);
+    }
+
+    /** Writes the remaining slices and the closing brackets, then closes the channel. */
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        try {
+            for (int core = 0; core < pending.length; core++) {
+                if (pending[core]) writeSlice(core);
+            }
+            put("\n],\"otherData\":{");
+            boolean first = true;
+            for (Map.Entry<String, Double> statistic : statistics.entrySet()) {
+                double value = statistic.getValue();
+                if (!first) put(',');
+                first = false;
+                putString(statistic.getKey()).put(':');
+                // JSON has no NaN or infinity
+                if (Double.isFinite(value)) {
+                    put(Double.toString(value));
+                } else {
+                    putString(Double.toString(value));
+                }
+            }
+            put("}}\n");
+            drain();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void writeSlice(int core) {
+        reserve(MAX_EVENT);
+        put(",\n{\"name\":\"P").put(pendingPid[core]).put("\",\"cat\":\"slice\",\"ph\":\"X\",\"pid\":")
+                .put(CPU_PID).put(",\"tid\":").put(core)
+                .put(",\"ts\":").put(pendingStart[core])
+                .put(",\"dur\":").put(pendingEnd[core] - pendingStart[core])
+                .put(",\"args\":{\"pid\":").put(pendingPid[core]).put("}}");
+        pending[core] = false;
+    }
+
+    private void addCores(int cores) {
+        int oldLength = pending.length;
+        pendingStart = Arrays.copyOf(pendingStart, cores);
+        pendingEnd = Arrays.copyOf(pendingEnd, cores);
+        pendingPid = Arrays.copyOf(pendingPid, cores);
+        pending = Arrays.copyOf(pending, cores);
+        for (int core = oldLength; core < cores; core++) {
+            reserve(MAX_EVENT);
+            put(",\n{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":").put(CPU_PID).put(",\"tid\":").put(core)
+                    .put(",\"args\":{\"name\":\"CPU ").put(core).put("\"}}");
+            put(",\n{\"name\":\"thread_sort_index\",\"ph\":\"M\",\"pid\":").put(CPU_PID).put(",\"tid\":").put(core)
+                    .put(",\"args\":{\"sort_index\":").put(core).put("}}");
+        }
+    }
+
+    private TraceEventWriter put(String ascii) {
+        for (int i = 0; i < ascii.length(); i++) {
+            put(ascii.charAt(i));
+        }
+        return this;
+    }
+
+    private TraceEventWriter put(char c) {
+        if (!buffer.hasRemaining()) drain();
+        buffer.put((byte) c);
+        return this;
+    }
+
+    private TraceEventWriter put(int value) {
+        reserve(11);
+        if (value < 0) {
+            if (value == Integer.MIN_VALUE) return put("-2147483648");
+            buffer.put((byte) '-');
+            value = -value;
+        }
+        int divisor = 1;
+        while (divisor <= value / 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            buffer.put((byte) ('0' + value / divisor % 10));
+        }
+        return this;
+    }
+
+    // JSON string; non-ASCII characters are escaped so the buffer holds only ASCII
+    private TraceEventWriter putString(String value) {
+        put('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                put('\\').put(c);
+            } else if (c < 0x20 || c > 0x7E) {
+                put(String.format("\\u%04x", (int) c));
+            } else {
+                put(c);
+            }
+        }
+        return put('"');
+    }
+
+    private void reserve(int bytes) {
+        if (buffer.remaining() < bytes) drain();
+    }
+
+    private void drain() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,652 @@
+package CLI;
+
+import Algorithms.AlgorithmRegistry;
+import Algorithms.MetricsCollector;
+import Algorithms.ResultCollector;
+import Algorithms.SchedulerConfig;
+import Algorithms.ScheduleSink;
+import Algorithms.SchedulingAlgorithm;
+import Algorithms.StreamingAlgorithm;
+import Algorithms.TeeSink;
+import Algorithms.TraceEventWriter;
+import Models.MetricSummary;
+import Models.Process;
+import Models.ProcessTable;
+import Models.ScheduleMetrics;
+import Models.SchedulingResult;
+import Models.SampleSummary;
+import Utils.BinaryFormat;
+import Utils.Distribution;
+import Utils.ExperimentResult;
+import Utils.ExperimentRunner;
+import Utils.FileHandler;
+import Utils.ReportGenerator;
+import Utils.WorkloadGenerator;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Headless entry point: schedules one or more workload files (or every
+ * supported file in a directory) in a single JVM and writes one CSV row of
+ * metrics per workload, algorithm and quantum. With {@code --experiment} it
+ * instead compares the algorithms over many seeded random workloads, and
+ * with {@code --generate} it schedules one synthetic workload drawn from
+ * configurable distributions.
+ */
+public class BatchRunner {
+    static final int EXIT_OK = 0;
+    static final int EXIT_FAILED = 1;
+    static final int EXIT_USAGE = 2;
+    static final int DEFAULT_EXPERIMENT_PROCESSES = 1000;
+    // Rough peak heap use per process of a generated table and an engine's working arrays
+    static final long BYTES_PER_TABLE_PROCESS = 64;
+    static final String WORKLOAD_HEADER = "workload,algorithm,quantum,processes,avg_waiting,avg_turnaround,"
+            + "avg_response,p50_waiting,p90_waiting,p99_waiting,max_waiting,makespan,utilization,throughput,"
+            + "context_switches";
+
+    private final List<SchedulingAlgorithm> algorithms = new ArrayList<>();
+    private final List<Integer> quanta = new ArrayList<>();
+    private final List<File> inputs = new ArrayList<>();
+    private File output;
+    private File reportDirectory;
+    private File scheduleDirectory;
+    private File traceDirectory;
+    private File workloadOutput;
+    private int cores = SchedulerConfig.DEFAULT_CORES;
+    private SchedulerConfig.LoadBalancing loadBalancing = SchedulerConfig.LoadBalancing.WORK_STEALING;
+    private int experimentTrials; // 0: schedule workload files
+    private int experimentProcesses = DEFAULT_EXPERIMENT_PROCESSES;
+    private Long seed; // null: random
+    private int generatedProcesses; // 0: no synthetic workload
+    private Distribution interArrival;
+    private Distribution burstTime;
+    private Distribution priority;
+    private String burstPhases;
+
+    public static int run(String[] args) {
+        BatchRunner runner = new BatchRunner();
+        try {
+            if (!runner.parse(args)) {
+                printUsage(System.out);
+                return EXIT_OK;
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            printUsage(System.err);
+            return EXIT_USAGE;
+        }
+        return runner.execute();
+    }
+
+    static void printUsage(PrintStream out) {
+        out.println("Usage: java Main [options] <workload file or directory>...");
+        out.println("       java Main --experiment <trials> [options]");
+        out.println("       java Main --generate <processes> [options]");
+        out.println();
+        out.println("Schedules each workload (" + String.join(", ", FileHandler.SUPPORTED_EXTENSIONS)
+                + ") and prints one CSV row per workload, algorithm and quantum.");
+        out.println("Without arguments the graphical simulator is started.");
+        out.println();
+        out.println("Options:");
+        out.println("  -a, --algorithms <list>  comma-separated algorithm names (default: all)");
+        out.println("                           available: " + String.join(", ", AlgorithmRegistry.getNames()));
+        out.println("  -q, --quanta <list>      comma-separated quanta for algorithms that use one (default: "
+                + SchedulerConfig.DEFAULT_QUANTUM + ")");
+        out.println("  -c, --cores <n>          CPUs for multi-core algorithms (default: "
+                + SchedulerConfig.DEFAULT_CORES + ")");
+        out.println("  -b, --balancing <mode>   load balancing for multi-core algorithms: global or stealing"
+                + " (default: stealing)");
+        out.println("  -o, --output <file>      write the CSV to a file instead of stdout");
+        out.println("  -r, --reports <dir>      also write a PDF report per workload into <dir>");
+        out.println("      --schedules <dir>    also save every computed schedule as a binary ."
+                + BinaryFormat.SCHEDULE_EXTENSION + " file into <dir>");
+        out.println("  -t, --trace <dir>        also stream every schedule into <dir> as a Chrome trace-event");
+        out.println("                           JSON file, for chrome://tracing or ui.perfetto.dev");
+        out.println("  -w, --save-workload <file>");
+        out.println("                           save the workload (a single file, or the --generate one) in the");
+        out.println("                           compact binary ." + BinaryFormat.WORKLOAD_EXTENSION
+                + " format, which loads much faster than text");
+        out.println("  -e, --experiment <n>     compare the algorithms over n random workloads instead: one CSV");
+        out.println("                           row per algorithm and quantum with means, 95% confidence");
+        out.println("                           intervals and win rates");
+        out.println("  -n, --processes <n>      processes per experiment workload (default: "
+                + DEFAULT_EXPERIMENT_PROCESSES + ")");
+        out.println("  -g, --generate <n>       schedule one synthetic workload of n processes instead; FCFS and");
+        out.println("                           Round Robin stream it, the other algorithms need it in memory");
+        out.println("      --arrivals <dist>    gaps between synthetic arrivals (default: exponential:"
+                + (int) WorkloadGenerator.DEFAULT_MEAN_INTER_ARRIVAL + ", i.e. Poisson)");
+        out.println("      --bursts <dist>      synthetic burst times (default: uniform:1:20)");
+        out.println("      --priorities <dist>  synthetic priorities (default: uniform:1:5)");
+        out.println("      --burst-phases <b>:<c>:<dist>");
+        out.println("                           alternate the arrival gaps with <dist> gaps in bursts averaging");
+        out.println("                           <b> processes, separated by calm phases averaging <c>");
+        out.println("                           distributions: constant:v, uniform:min:max, exponential:mean,");
+        out.println("                           pareto:scale:shape, lognormal:median:sigma, bimodal:share:<dist>+<dist>");
+        out.println("  -s, --seed <seed>        experiment or synthetic workload seed, for reproducible runs");
+        out.println("                           (default: random)");
+        out.println("  -h, --help               show this help");
+    }
+
+    /**
+     * @return false if only help was requested
+     * @throws IllegalArgumentException on invalid arguments
+     */
+    boolean parse(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "-h":
+                case "--help":
+                    return false;
+                case "-a":
+                case "--algorithms":
+                    for (String name : splitList(requireValue(args, ++i, arg))) {
+                        algorithms.add(findAlgorithm(name));
+                    }
+                    break;
+                case "-q":
+                case "--quanta":
+                    for (String value : splitList(requireValue(args, ++i, arg))) {
+                        quanta.add(parseQuantum(value));
+                    }
+                    break;
+                case "-c":
+                case "--cores":
+                    cores = parsePositive(requireValue(args, ++i, arg), "Core count");
+                    break;
+                case "-b":
+                case "--balancing":
+                    loadBalancing = parseLoadBalancing(requireValue(args, ++i, arg));
+                    break;
+                case "-e":
+                case "--experiment":
+                    experimentTrials = parsePositive(requireValue(args, ++i, arg), "Trial count");
+                    break;
+                case "-n":
+                case "--processes":
+                    experimentProcesses = parsePositive(requireValue(args, ++i, arg), "Process count");
+                    break;
+                case "-g":
+                case "--generate":
+                    generatedProcesses = parsePositive(requireValue(args, ++i, arg), "Process count");
+                    break;
+                case "--arrivals":
+                    interArrival = Distribution.parse(requireValue(args, ++i, arg));
+                    break;
+                case "--bursts":
+                    burstTime = Distribution.parse(requireValue(args, ++i, arg));
+                    break;
+                case "--priorities":
+                    priority = Distribution.parse(requireValue(args, ++i, arg));
+                    break;
+                case "--burst-phases":
+                    burstPhases = requireValue(args, ++i, arg);
+                    break;
+                case "-s":
+                case "--seed":
+                    String value = requireValue(args, ++i, arg);
+                    try {
+                        seed = Long.parseLong(value);
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Seed must be an integer: " + value);
+                    }
+                    break;
+                case "-o":
+                case "--output":
+                    output = new File(requireValue(args, ++i, arg));
+                    break;
+                case "-r":
+                case "--reports":
+                    reportDirectory = new File(requireValue(args, ++i, arg));
+                    break;
+                case "-t":
+                case "--trace":
+                    traceDirectory = new File(requireValue(args, ++i, arg));
+                    break;
+                case "--schedules":
+                    scheduleDirectory = new File(requireValue(args, ++i, arg));
+                    break;
+                case "-w":
+                case "--save-workload":
+                    workloadOutput = new File(requireValue(args, ++i, arg));
+                    break;
+                default:
+                    if (arg.startsWith("-")) {
+                        throw new IllegalArgumentException("Unknown option " + arg);
+                    }
+                    inputs.add(new File(arg));
+            }
+        }
+        if (experimentTrials > 0 && !inputs.isEmpty()) {
+            throw new IllegalArgumentException("Workload files cannot be combined with --experiment");
+        }
+        if (experimentTrials > 0 && (traceDirectory != null || scheduleDirectory != null
+                || reportDirectory != null || workloadOutput != null)) {
+            throw new IllegalArgumentException("--experiment only writes the CSV summary");
+        }
+        if (generatedProcesses > 0 && (experimentTrials > 0 || !inputs.isEmpty())) {
+            throw new IllegalArgumentException("--generate cannot be combined with --experiment or workload files");
+        }
+        if (generatedProcesses > 0 && (reportDirectory != null || scheduleDirectory != null)) {
+            throw new IllegalArgumentException("--reports and --schedules are not available for synthetic workloads");
+        }
+        if (workloadOutput != null && generatedProcesses == 0
+                && (inputs.size() != 1 || inputs.get(0).isDirectory())) {
+            throw new IllegalArgumentException("--save-workload needs --generate or a single workload file");
+        }
+        if (generatedProcesses == 0 && (interArrival != null || burstTime != null
+                || priority != null || burstPhases != null)) {
+            throw new IllegalArgumentException("Distribution options need --generate");
+        }
+        if (burstPhases != null) {
+            parseBurstPhases(new WorkloadGenerator(0), burstPhases); // fail early
+        }
+        if (experimentTrials == 0 && generatedProcesses == 0 && inputs.isEmpty()) {
+            throw new IllegalArgumentException("No workload files given");
+        }
+        if (algorithms.isEmpty()) {
+            algorithms.addAll(AlgorithmRegistry.getAll());
+        }
+        if (quanta.isEmpty()) {
+            quanta.add(SchedulerConfig.DEFAULT_QUANTUM);
+        }
+        return true;
+    }
+
+    int execute() {
+        if (experimentTrials > 0) {
+            return runExperiment();
+        }
+        if (generatedProcesses > 0) {
+            return runSynthetic();
+        }
+        List<File> workloads = new ArrayList<>();
+        for (File input : inputs) {
+            if (input.isDirectory()) {
+                File[] files = input.listFiles(f -> f.isFile() && FileHandler.isSupported(f));
+                if (files != null) {
+                    Arrays.sort(files);
+                    workloads.addAll(Arrays.asList(files));
+                }
+            } else {
+                workloads.add(input);
+            }
+        }
+        if (!createDirectories()) {
+            return EXIT_FAILED;
+        }
+
+        int exitCode = EXIT_OK;
+        try (PrintWriter csv = openOutput()) {
+            csv.println(WORKLOAD_HEADER);
+            for (File workload : workloads) {
+                try {
+                    processWorkload(workload, csv);
+                } catch (IOException | RuntimeException e) {
+                    System.err.println("Error: " + workload + ": " + e.getMessage());
+                    exitCode = EXIT_FAILED;
+                }
+                csv.flush();
+            }
+        } catch (IOException e) {
+            System.err.println("Error: cannot write " + output + ": " + e.getMessage());
+            return EXIT_FAILED;
+        }
+        return exitCode;
+    }
+
+    private void processWorkload(File workload, PrintWriter csv) throws IOException {
+        List<String> skipped = new ArrayList<>();
+        ProcessTable table = FileHandler.importTable(workload, skipped);
+        for (String row : skipped) {
+            System.err.println("Warning: " + workload + ": skipped " + row);
+        }
+        if (table.size() == 0) {
+            throw new IOException("no valid processes found");
+        }
+        if (workloadOutput != null) {
+            BinaryFormat.writeWorkload(table, workloadOutput.toPath());
+        }
+
+        String name = workload.getName();
+        int dot = name.lastIndexOf('.');
+        String baseName = dot > 0 ? name.substring(0, dot) : name;
+        Map<String, SchedulingResult> results = new LinkedHashMap<>();
+        for (SchedulingAlgorithm algorithm : algorithms) {
+            List<Integer> runs = algorithm.needsQuantum() ? quanta : quanta.subList(0, 1);
+            for (int quantum : runs) {
+                SchedulerConfig config = new SchedulerConfig(quantum);
+                config.setCores(cores);
+                config.setLoadBalancing(loadBalancing);
+                String label = algorithm.needsQuantum() && quanta.size() > 1
+                        ? algorithm.getName() + " (q=" + quantum + ")"
+                        : algorithm.getName();
+                ScheduleMetrics metrics;
+                if (reportDirectory == null && scheduleDirectory == null && traceDirectory == null) {
+                    // CSV only: metrics-only mode keeps no charts or per-process rows
+                    metrics = algorithm.measure(table, config);
+                } else if (reportDirectory == null && scheduleDirectory == null) {
+                    // Traces are streamed, so this stays metrics-only as well
+                    MetricsCollector metricsCollector = new MetricsCollector(table.size(),
+                            algorithm.usesCores() ? config.getCores() : 1);
+                    try (TraceEventWriter trace = openTrace(baseName, label)) {
+                        algorithm.schedule(table, config, new TeeSink(metricsCollector, trace));
+                    }
+                    metrics = metricsCollector.toMetrics();
+                } else {
+                    ResultCollector collector = new ResultCollector(table.size());
+                    MetricsCollector metricsCollector = new MetricsCollector(table.size(),
+                            algorithm.usesCores() ? config.getCores() : 1);
+                    if (traceDirectory == null) {
+                        algorithm.schedule(table, config, new TeeSink(collector, metricsCollector));
+                    } else {
+                        try (TraceEventWriter trace = openTrace(baseName, label)) {
+                            algorithm.schedule(table, config, new TeeSink(collector, metricsCollector, trace));
+                        }
+                    }
+                    metrics = metricsCollector.toMetrics();
+
+                    SchedulingResult result = collector.toResult();
+                    if (scheduleDirectory != null) {
+                        BinaryFormat.writeSchedule(result, label, outputFile(scheduleDirectory, baseName, label,
+                                BinaryFormat.SCHEDULE_EXTENSION).toPath());
+                    }
+                    if (reportDirectory != null) {
+                        results.put(label, result);
+                    }
+                }
+
+                printMetrics(csv, workload.getPath(), algorithm, quantum, table.size(), metrics);
+            }
+        }
+
+        if (reportDirectory != null) {
+            File report = new File(reportDirectory, baseName + "_Report.pdf");
+            Map<String, List<Process>> processMap = new LinkedHashMap<>();
+            for (String label : results.keySet()) {
+                processMap.put(label, table.asList());
+            }
+            ReportGenerator.generateCompleteReport(results, processMap, report.getPath());
+        }
+    }
+
+    private boolean createDirectories() {
+        for (File directory : new File[]{reportDirectory, scheduleDirectory, traceDirectory}) {
+            if (directory != null && !directory.isDirectory() && !directory.mkdirs()) {
+                System.err.println("Error: cannot create directory " + directory);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int runSynthetic() {
+        if (!createDirectories()) {
+            return EXIT_FAILED;
+        }
+        WorkloadGenerator generator = new WorkloadGenerator(seed != null ? seed : new SplittableRandom().nextLong());
+        if (interArrival != null) generator.setInterArrival(interArrival);
+        if (burstTime != null) generator.setBurstTime(burstTime);
+        if (priority != null) generator.setPriority(priority);
+        if (burstPhases != null) parseBurstPhases(generator, burstPhases);
+        String label = "synthetic(seed=" + generator.getSeed() + ")";
+
+        int exitCode = EXIT_OK;
+        ProcessTable table = null; // materialized only for engines that cannot stream
+        // Checked up front: running out of heap halfway leaves nothing safe to continue with
+        String tableTooLarge = tableTooLarge(generatedProcesses);
+        if (workloadOutput != null) {
+            if (tableTooLarge != null) {
+                System.err.println("Error: cannot write " + workloadOutput + ": " + tableTooLarge + "; raise -Xmx");
+                return EXIT_FAILED;
+            }
+            try {
+                table = generator.generate(generatedProcesses);
+                BinaryFormat.writeWorkload(table, workloadOutput.toPath());
+            } catch (IOException e) {
+                System.err.println("Error: cannot write " + workloadOutput + ": " + e.getMessage());
+                return EXIT_FAILED;
+            }
+        }
+        try (PrintWriter csv = openOutput()) {
+            csv.println(WORKLOAD_HEADER);
+            for (SchedulingAlgorithm algorithm : algorithms) {
+                List<Integer> runs = algorithm.needsQuantum() ? quanta : quanta.subList(0, 1);
+                for (int quantum : runs) {
+                    SchedulerConfig config = new SchedulerConfig(quantum);
+                    config.setCores(cores);
+                    config.setLoadBalancing(loadBalancing);
+                    if (table == null && tableTooLarge != null && !(algorithm instanceof StreamingAlgorithm)) {
+                        System.err.println("Error: " + algorithm.getName() + ": " + tableTooLarge
+                                + "; FCFS and Round Robin stream the workload instead, or raise -Xmx");
+                        exitCode = EXIT_FAILED;
+                        continue;
+                    }
+                    try {
+                        ScheduleMetrics metrics;
+                        if (traceDirectory != null) {
+                            String run = algorithm.needsQuantum() && quanta.size() > 1
+                                    ? algorithm.getName() + " (q=" + quantum + ")"
+                                    : algorithm.getName();
+                            MetricsCollector metricsCollector = new MetricsCollector(generatedProcesses,
+                                    algorithm.usesCores() ? config.getCores() : 1);
+                            try (TraceEventWriter trace = openTrace("synthetic_" + generator.getSeed(), run)) {
+                                ScheduleSink sink = new TeeSink(metricsCollector, trace);
+                                if (algorithm instanceof StreamingAlgorithm) {
+                                    ((StreamingAlgorithm) algorithm).schedule(
+                                            generator.stream(generatedProcesses), config, sink);
+                                } else {
+                                    if (table == null) table = generator.generate(generatedProcesses);
+                                    algorithm.schedule(table, config, sink);
+                                }
+                            }
+                            metrics = metricsCollector.toMetrics();
+                        } else if (algorithm instanceof StreamingAlgorithm) {
+                            metrics = ((StreamingAlgorithm) algorithm).measure(
+                                    generator.stream(generatedProcesses), generatedProcesses, config);
+                        } else {
+                            if (table == null) table = generator.generate(generatedProcesses);
+                            metrics = algorithm.measure(table, config);
+                        }
+                        printMetrics(csv, label, algorithm, quantum, generatedProcesses, metrics);
+                    } catch (IOException | RuntimeException e) {
+                        System.err.println("Error: " + algorithm.getName() + ": " + e);
+                        exitCode = EXIT_FAILED;
+                    }
+                    csv.flush();
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error: cannot write " + output + ": " + e.getMessage());
+            return EXIT_FAILED;
+        }
+        return exitCode;
+    }
+
+    /** @return why a table of {@code processes} rows would not fit in the free heap, or null if it would */
+    private static String tableTooLarge(int processes) {
+        Runtime runtime = Runtime.getRuntime();
+        long free = runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());
+        long needed = processes * BYTES_PER_TABLE_PROCESS;
+        if (needed <= free) {
+            return null;
+        }
+        return String.format("%d processes need about %d MB of heap but only %d MB is free",
+                processes, needed >> 20, free >> 20);
+    }
+
+    private TraceEventWriter openTrace(String baseName, String label) throws IOException {
+        return new TraceEventWriter(outputFile(traceDirectory, baseName, label, "json").toPath());
+    }
+
+    // <directory>/<workload>_<run label with punctuation replaced>.<extension>
+    private static File outputFile(File directory, String baseName, String label, String extension) {
+        String suffix = label.replaceAll("[^A-Za-z0-9]+", "_").replaceAll("_$", "");
+        return new File(directory, baseName + "_" + suffix + "." + extension);
+    }
+
+    private static void printMetrics(PrintWriter csv, String workload, SchedulingAlgorithm algorithm,
+                                     int quantum, int processCount, ScheduleMetrics metrics) {
+        MetricSummary waiting = metrics.getWaiting();
+        csv.println(String.join(",",
+                csvField(workload),
+                csvField(algorithm.getName()),
+                algorithm.needsQuantum() ? Integer.toString(quantum) : "",
+                Integer.toString(processCount),
+                String.format(Locale.ROOT, "%.4f", metrics.getAverageWaitingTime()),
+                String.format(Locale.ROOT, "%.4f", metrics.getAverageTurnaroundTime()),
+                String.format(Locale.ROOT, "%.4f", metrics.getResponse().getMean()),
+                Integer.toString(waiting.getP50()),
+                Integer.toString(waiting.getP90()),
+                Integer.toString(waiting.getP99()),
+                Integer.toString(waiting.getMax()),
+                Long.toString(metrics.getMakespan()),
+                String.format(Locale.ROOT, "%.4f", metrics.getUtilization()),
+                String.format(Locale.ROOT, "%.6f", metrics.getThroughput()),
+                Long.toString(metrics.getContextSwitches())));
+    }
+
+    private int runExperiment() {
+        long experimentSeed = seed != null ? seed : new SplittableRandom().nextLong();
+        try (PrintWriter csv = openOutput()) {
+            csv.println("algorithm,quantum,trials,processes,seed,mean_waiting,waiting_ci_low,waiting_ci_high,"
+                    + "stddev_waiting,mean_turnaround,turnaround_ci_low,turnaround_ci_high,"
+                    + "mean_response,response_ci_low,response_ci_high,win_rate");
+            // Win rates compare the algorithms at the same quantum
+            for (int quantum : quanta) {
+                SchedulerConfig config = new SchedulerConfig(quantum);
+                config.setCores(cores);
+                config.setLoadBalancing(loadBalancing);
+                ExperimentResult result = ExperimentRunner.run(algorithms, config, experimentTrials,
+                        experimentProcesses, experimentSeed, null);
+                for (SchedulingAlgorithm algorithm : algorithms) {
+                    ExperimentResult.AlgorithmStatistics statistics = result.getStatistics(algorithm.getName());
+                    SampleSummary waiting = statistics.getWaiting();
+                    SampleSummary turnaround = statistics.getTurnaround();
+                    SampleSummary response = statistics.getResponse();
+                    csv.println(String.join(",",
+                            csvField(algorithm.getName()),
+                            algorithm.needsQuantum() ? Integer.toString(quantum) : "",
+                            Integer.toString(experimentTrials),
+                            Integer.toString(experimentProcesses),
+                            Long.toString(experimentSeed),
+                            String.format(Locale.ROOT, "%.4f", waiting.getMean()),
+                            String.format(Locale.ROOT, "%.4f", waiting.getConfidenceLow()),
+                            String.format(Locale.ROOT, "%.4f", waiting.getConfidenceHigh()),
+                            String.format(Locale.ROOT, "%.4f", waiting.getStandardDeviation()),
+                            String.format(Locale.ROOT, "%.4f", turnaround.getMean()),
+                            String.format(Locale.ROOT, "%.4f", turnaround.getConfidenceLow()),
+                            String.format(Locale.ROOT, "%.4f", turnaround.getConfidenceHigh()),
+                            String.format(Locale.ROOT, "%.4f", response.getMean()),
+                            String.format(Locale.ROOT, "%.4f", response.getConfidenceLow()),
+                            String.format(Locale.ROOT, "%.4f", response.getConfidenceHigh()),
+                            String.format(Locale.ROOT, "%.4f", statistics.getWinRate())));
+                }
+                csv.flush();
+            }
+        } catch (IOException e) {
+            System.err.println("Error: cannot write " + output + ": " + e.getMessage());
+            return EXIT_FAILED;
+        }
+        return EXIT_OK;
+    }
+
+    private PrintWriter openOutput() throws IOException {
+        if (output == null) {
+            return new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8)) {
+                @Override
+                public void close() {
+                    flush(); // leave stdout open
+                }
+            };
+        }
+        return new PrintWriter(new OutputStreamWriter(new FileOutputStream(output), StandardCharsets.UTF_8));
+    }
+
+    private static String requireValue(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + option);
+        }
+        return args[index];
+    }
+
+    private static List<String> splitList(String value) {
+        List<String> items = new ArrayList<>();
+        for (String item : value.split(",")) {
+            if (!item.trim().isEmpty()) items.add(item.trim());
+        }
+        return items;
+    }
+
+    private static SchedulingAlgorithm findAlgorithm(String name) {
+        for (SchedulingAlgorithm algorithm : AlgorithmRegistry.getAll()) {
+            if (algorithm.getName().equalsIgnoreCase(name)) {
+                return algorithm;
+            }
+        }
+        throw new IllegalArgumentException("Unknown algorithm \"" + name + "\"");
+    }
+
+    private static int parseQuantum(String value) {
+        try {
+            int quantum = Integer.parseInt(value);
+            if (quantum > 0) return quantum;
+        } catch (NumberFormatException ignored) {
+        }
+        throw new IllegalArgumentException("Quantum must be a positive integer: " + value);
+    }
+
+    private static int parsePositive(String value, String what) {
+        try {
+            int count = Integer.parseInt(value);
+            if (count > 0) return count;
+        } catch (NumberFormatException ignored) {
+        }
+        throw new IllegalArgumentException(what + " must be a positive integer: " + value);
+    }
+
+    // <mean burst phase>:<mean calm phase>:<distribution>
+    private static void parseBurstPhases(WorkloadGenerator generator, String value) {
+        String[] parts = value.split(":", 3);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Expected --burst-phases <burst>:<calm>:<distribution>: " + value);
+        }
+        try {
+            generator.setBurstyArrivals(Distribution.parse(parts[2]),
+                    Double.parseDouble(parts[0]), Double.parseDouble(parts[1]));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Phase lengths must be numbers: " + value);
+        }
+    }
+
+    private static SchedulerConfig.LoadBalancing parseLoadBalancing(String value) {
+        switch (value.toLowerCase(Locale.ROOT)) {
+            case "global":
+                return SchedulerConfig.LoadBalancing.GLOBAL_QUEUE;
+            case "stealing":
+                return SchedulerConfig.LoadBalancing.WORK_STEALING;
+            default:
+                throw new IllegalArgumentException("Load balancing must be global or stealing: " + value);
+        }
+    }
+
+    private static String csvField(String value) {
+        if (value.contains(",") || value.contains("\"")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
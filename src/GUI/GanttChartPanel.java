@@ -0,0 +1,444 @@
+package GUI;
+
+import Models.GanttBlock;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Zoomable Gantt chart. Ctrl+wheel zooms around the mouse, dragging or the
+ * wheel pans, and the scroll bar below shows the visible time range.
+ * Multi-core schedules get one lane per CPU.
+ *
+ * Each lane is drawn in 256-pixel tiles that are cached per zoom level with
+ * LRU eviction. When zoomed in, a tile draws the blocks inside it (found by
+ * binary search). When blocks get narrower than a pixel, it draws one
+ * column per pixel from a {@link TimelineSummary} instead: the dominant
+ * process's color, as tall as the CPU utilization there.
+ */
+class GanttChartPanel extends JPanel {
+    private static final int MARGIN = 50;
+    private static final int BAR_Y = 50;
+    private static final int BAR_HEIGHT = 40;
+    /** Pixels per time unit a short chart opens at. */
+    private static final double DEFAULT_SCALE = 40;
+    /** Zoom never goes beyond this many pixels per time unit. */
+    private static final double MAX_SCALE = 100;
+    private static final double ZOOM_STEP = 1.25;
+    /** Minimum spacing between labelled and unlabelled time ticks, in pixels. */
+    private static final int LABEL_SPACING = 60;
+    private static final int TICK_SPACING = 8;
+    /** Charts with more blocks than this open zoomed out and may use the summary. */
+    private static final int LOD_MIN_BLOCKS = 4096;
+    private static final int TILE_WIDTH = 256;
+    /** Cached tiles are evicted once they hold more pixels than this. */
+    private static final long MAX_TILE_PIXELS = 1 << 22;
+    /** Lanes of a multi-core chart share the height but get no thinner than this. */
+    private static final int MIN_LANE_HEIGHT = 2;
+    private static final Color IDLE_COLOR = new Color(230, 230, 230);
+
+    private List<GanttBlock> ganttBlocks = new ArrayList<>();
+    private List<GanttLane> lanes = Collections.emptyList();
+    private TimelineSummary[] summaries = new TimelineSummary[0];
+    private int maxTime;
+    private int laneHeight = BAR_HEIGHT;
+
+    // Scale is fitScale * ZOOM_STEP^zoomLevel, so revisiting a zoom level reuses its tiles
+    private double fitScale = 1;
+    private int zoomLevel;
+    private double viewStart;
+
+    private final Map<Integer, Color> pidColors = new HashMap<>();
+    private final Map<String, Color> labelColors = new HashMap<>();
+    private final Map<Long, BufferedImage> tiles = new LinkedHashMap<>(64, 0.75f, true);
+    private long tilePixels;
+
+    private final ChartCanvas canvas = new ChartCanvas();
+    private final JScrollBar scrollBar = new JScrollBar(JScrollBar.HORIZONTAL);
+    private boolean updatingScrollBar;
+
+    GanttChartPanel() {
+        super(new BorderLayout());
+        add(canvas, BorderLayout.CENTER);
+        add(scrollBar, BorderLayout.SOUTH);
+        scrollBar.setVisible(false);
+        scrollBar.addAdjustmentListener(e -> {
+            if (!updatingScrollBar) {
+                viewStart = e.getValue();
+                canvas.repaint();
+            }
+        });
+
+        canvas.addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(ComponentEvent e) {
+                updateLaneHeight();
+                updateFitScale();
+            }
+        });
+
+        MouseAdapter mouse = new MouseAdapter() {
+            private int dragX;
+            private double dragStart;
+
+            @Override
+            public void mousePressed(MouseEvent e) {
+                dragX = e.getX();
+                dragStart = viewStart;
+                canvas.setCursor(Cursor.getPredefinedCursor(Cursor.MOVE_CURSOR));
+            }
+
+            @Override
+            public void mouseReleased(MouseEvent e) {
+                canvas.setCursor(Cursor.getDefaultCursor());
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                setViewStart(dragStart - (e.getX() - dragX) / scale());
+            }
+
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                if (e.isControlDown()) {
+                    zoom(e.getWheelRotation() < 0 ? 1 : -1, e.getX());
+                } else {
+                    setViewStart(viewStart + e.getPreciseWheelRotation() * visibleSpan() / 10);
+                }
+            }
+        };
+        canvas.addMouseListener(mouse);
+        canvas.addMouseMotionListener(mouse);
+        canvas.addMouseWheelListener(mouse);
+        canvas.setToolTipText("Ctrl+wheel to zoom, drag to pan");
+    }
+
+    public void setGanttBlocks(List<GanttBlock> blocks) {
+        this.ganttBlocks = blocks;
+        this.lanes = GanttLane.split(blocks);
+        this.summaries = new TimelineSummary[lanes.size()];
+        this.maxTime = 0;
+        for (GanttLane lane : lanes) {
+            maxTime = Math.max(maxTime, lane.endTime());
+        }
+        this.viewStart = 0;
+        clearTiles();
+        updateLaneHeight();
+        fitScale = computeFitScale();
+
+        // Short charts open at the familiar fixed scale, long ones as an overview
+        zoomLevel = 0;
+        if (blocks.size() <= LOD_MIN_BLOCKS) {
+            while (fitScale * Math.pow(ZOOM_STEP, zoomLevel + 1) <= DEFAULT_SCALE) {
+                zoomLevel++;
+            }
+        }
+        updateScrollBar();
+        canvas.revalidate();
+        canvas.repaint();
+    }
+
+    public void clearChart() {
+        // Results own their block lists; drop the reference instead of clearing it
+        setGanttBlocks(new ArrayList<>());
+    }
+
+    private double computeFitScale() {
+        return Math.max(1, canvas.getWidth() - 2 * MARGIN) / (double) Math.max(1, maxTime);
+    }
+
+    private void updateFitScale() {
+        double fit = computeFitScale();
+        if (fit != fitScale) {
+            // Keep roughly the same zoom; tiles of the old width are useless
+            double scale = scale();
+            fitScale = fit;
+            zoomLevel = 0;
+            while (fitScale * Math.pow(ZOOM_STEP, zoomLevel + 1) <= scale) {
+                zoomLevel++;
+            }
+            clearTiles();
+        }
+        setViewStart(viewStart);
+    }
+
+    /** Splits the canvas height between the lanes; tiles of another height are dropped. */
+    private void updateLaneHeight() {
+        int height = BAR_HEIGHT;
+        if (lanes.size() > 1) {
+            int available = canvas.getHeight() - BAR_Y - 60;
+            height = Math.max(MIN_LANE_HEIGHT, Math.min(BAR_HEIGHT, available / lanes.size()));
+        }
+        if (height != laneHeight) {
+            laneHeight = height;
+            clearTiles();
+        }
+    }
+
+    private void clearTiles() {
+        tiles.clear();
+        tilePixels = 0;
+    }
+
+    private double scale() {
+        return fitScale * Math.pow(ZOOM_STEP, zoomLevel);
+    }
+
+    private int chartWidth() {
+        return Math.max(1, canvas.getWidth() - 2 * MARGIN);
+    }
+
+    private double visibleSpan() {
+        return chartWidth() / scale();
+    }
+
+    private void zoom(int steps, int mouseX) {
+        int level = zoomLevel + steps;
+        if (level < 0 || (steps > 0 && fitScale * Math.pow(ZOOM_STEP, level) > Math.max(MAX_SCALE, fitScale))) {
+            return;
+        }
+        // Keep the time under the mouse in place
+        double anchor = viewStart + (mouseX - MARGIN) / scale();
+        zoomLevel = level;
+        setViewStart(anchor - (mouseX - MARGIN) / scale());
+    }
+
+    private void setViewStart(double start) {
+        viewStart = Math.max(0, Math.min(start, maxTime - visibleSpan()));
+        updateScrollBar();
+        canvas.repaint();
+    }
+
+    private void updateScrollBar() {
+        int extent = (int) Math.min(maxTime, Math.ceil(visibleSpan()));
+        updatingScrollBar = true;
+        scrollBar.setValues((int) viewStart, extent, 0, maxTime);
+        scrollBar.setBlockIncrement(Math.max(1, extent * 9 / 10));
+        scrollBar.setUnitIncrement(Math.max(1, extent / 10));
+        updatingScrollBar = false;
+        boolean needed = extent < maxTime;
+        if (scrollBar.isVisible() != needed) {
+            scrollBar.setVisible(needed);
+            revalidate();
+        }
+    }
+
+    private class ChartCanvas extends JComponent {
+        @Override
+        protected void paintComponent(Graphics g) {
+            if (ganttBlocks.isEmpty()) return;
+
+            double scale = scale();
+            double offset = viewStart * scale;
+            int chartWidth = chartWidth();
+
+            // Bars: cached tiles, clipped to the chart area
+            Graphics bar = g.create();
+            bar.clipRect(MARGIN, 0, chartWidth, getHeight());
+            long firstTile = (long) Math.floor(offset / TILE_WIDTH);
+            long lastTile = (long) Math.floor((offset + chartWidth) / TILE_WIDTH);
+            for (int lane = 0; lane < lanes.size(); lane++) {
+                int y = BAR_Y + lane * laneHeight;
+                for (long tile = firstTile; tile <= lastTile; tile++) {
+                    if (tile * TILE_WIDTH >= maxTime * scale) break;
+                    bar.drawImage(tile(lane, tile, scale), x(tile * TILE_WIDTH, 1, offset), y, null);
+                }
+            }
+            bar.dispose();
+
+            // Lane names, if there is room for them
+            if (lanes.size() > 1 && laneHeight >= 10) {
+                g.setColor(Color.BLACK);
+                FontMetrics fm = g.getFontMetrics();
+                for (int lane = 0; lane < lanes.size(); lane++) {
+                    String name = "CPU " + lane;
+                    int y = BAR_Y + lane * laneHeight + (laneHeight + fm.getAscent()) / 2 - 1;
+                    g.drawString(name, MARGIN - 4 - fm.stringWidth(name), y);
+                }
+            }
+
+            drawTimeline(g, scale, offset, chartWidth);
+        }
+
+        private void drawTimeline(Graphics g, double scale, double offset, int chartWidth) {
+            g.setColor(Color.BLACK);
+            FontMetrics fm = g.getFontMetrics();
+            int timelineY = BAR_Y + lanes.size() * laneHeight + 20;
+            int lineStart = Math.max(MARGIN, x(0, scale, offset));
+            int lineEnd = Math.min(MARGIN + chartWidth, x(maxTime, scale, offset));
+            g.drawLine(lineStart, timelineY, lineEnd, timelineY);
+
+            double fromTime = viewStart;
+            double toTime = viewStart + chartWidth / scale;
+            long tickStep = niceStep(TICK_SPACING / scale);
+            // Leave room for the widest label
+            int labelSpacing = Math.max(LABEL_SPACING, fm.stringWidth(Integer.toString(maxTime)) + 16);
+            long labelStep = niceStep(labelSpacing / scale);
+            long first = Math.max(0, (long) Math.ceil(fromTime));
+            long last = Math.min(maxTime, (long) Math.floor(toTime));
+            for (long t = (first + tickStep - 1) / tickStep * tickStep; t <= last; t += tickStep) {
+                int x = x(t, scale, offset);
+                g.drawLine(x, timelineY - 5, x, timelineY + 5);
+            }
+            for (long t = (first + labelStep - 1) / labelStep * labelStep; t <= last; t += labelStep) {
+                drawTimeLabel(g, fm, t, x(t, scale, offset), timelineY);
+            }
+            // Always label the end of the schedule unless a regular label is too close
+            if (maxTime <= last && maxTime % labelStep != 0 && (maxTime % labelStep) * scale >= labelSpacing / 2.0) {
+                drawTimeLabel(g, fm, maxTime, x(maxTime, scale, offset), timelineY);
+            }
+        }
+
+        @Override
+        public Dimension getPreferredSize() {
+            int lanesHeight = lanes.size() <= 1 ? BAR_HEIGHT
+                    : lanes.size() * Math.max(MIN_LANE_HEIGHT, Math.min(BAR_HEIGHT, 480 / lanes.size()));
+            return new Dimension(800, Math.max(200, BAR_Y + lanesHeight + 60));
+        }
+    }
+
+    private static int x(long time, double scale, double offset) {
+        return MARGIN + (int) Math.round(time * scale - offset);
+    }
+
+    private static void drawTimeLabel(Graphics g, FontMetrics fm, long t, int x, int timelineY) {
+        String timeLabel = Long.toString(t);
+        g.drawLine(x, timelineY - 5, x, timelineY + 5);
+        g.drawString(timeLabel, x - fm.stringWidth(timeLabel) / 2, timelineY + 20);
+    }
+
+    /** Smallest step of the form 1, 2 or 5 times a power of ten that is at least {@code min}. */
+    static long niceStep(double min) {
+        long magnitude = 1;
+        while (true) {
+            if (magnitude >= min) return magnitude;
+            if (2 * magnitude >= min) return 2 * magnitude;
+            if (5 * magnitude >= min) return 5 * magnitude;
+            magnitude *= 10;
+        }
+    }
+
+    // Tile key: zoom level in the top 16 bits, then 16 bits of lane and 32 of tile index
+    private BufferedImage tile(int lane, long index, double scale) {
+        long key = ((long) zoomLevel << 48) | ((long) lane << 32) | index;
+        BufferedImage image = tiles.get(key);
+        if (image == null) {
+            image = renderTile(lane, index, scale);
+            tiles.put(key, image);
+            tilePixels += pixels(image);
+            // Evict least recently used tiles, never the one just drawn
+            Iterator<BufferedImage> eldest = tiles.values().iterator();
+            while (tilePixels > MAX_TILE_PIXELS) {
+                BufferedImage evicted = eldest.next();
+                if (evicted == image) break;
+                tilePixels -= pixels(evicted);
+                eldest.remove();
+            }
+        }
+        return image;
+    }
+
+    private static long pixels(BufferedImage image) {
+        return (long) image.getWidth() * image.getHeight();
+    }
+
+    private BufferedImage renderTile(int laneIndex, long index, double scale) {
+        GanttLane lane = lanes.get(laneIndex);
+        // Leave a pixel between lanes
+        int height = lanes.size() > 1 ? Math.max(1, laneHeight - 1) : laneHeight;
+        BufferedImage image = new BufferedImage(TILE_WIDTH, height + 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setFont(getFont());
+        double origin = (double) index * TILE_WIDTH;
+
+        int level = -1;
+        if (lane.size() > LOD_MIN_BLOCKS) {
+            if (summaries[laneIndex] == null) {
+                summaries[laneIndex] = new TimelineSummary(lane);
+            }
+            level = summaries[laneIndex].levelFor(1 / scale);
+        }
+        if (level >= 0) {
+            renderSummary(g, lane, summaries[laneIndex], level, origin, scale, height);
+        } else {
+            renderBlocks(g, lane, origin, scale, height);
+        }
+        g.dispose();
+        return image;
+    }
+
+    /** One column per pixel: the dominant process, as tall as the utilization. */
+    private void renderSummary(Graphics g, GanttLane lane, TimelineSummary summary, int level,
+                               double origin, double scale, int height) {
+        long bucketWidth = summary.bucketWidth(level);
+        for (int px = 0; px < TILE_WIDTH; px++) {
+            double time = (origin + px + 0.5) / scale;
+            if (time >= maxTime) break;
+            int bucket = (int) Math.min(summary.bucketCount(level) - 1, (long) time / bucketWidth);
+            g.setColor(IDLE_COLOR);
+            g.fillRect(px, 0, 1, height);
+            int block = summary.dominantBlock(level, bucket);
+            if (block < 0) continue;
+            int busyHeight = (int) Math.round(height * summary.utilization(level, bucket));
+            g.setColor(colorFor(lane, block));
+            g.fillRect(px, height - busyHeight, 1, busyHeight);
+        }
+    }
+
+    /** Individual blocks; sub-pixel blocks are drawn at most once per pixel column. */
+    private void renderBlocks(Graphics g, GanttLane lane, double origin, double scale, int height) {
+        FontMetrics fm = g.getFontMetrics();
+        double fromTime = origin / scale;
+        double toTime = (origin + TILE_WIDTH) / scale;
+        int lastPixel = Integer.MIN_VALUE;
+        for (int i = lane.firstEndingAfter(fromTime); i < lane.size() && lane.startTime(i) <= toTime; i++) {
+            int xStart = (int) Math.round(lane.startTime(i) * scale - origin);
+            int xEnd = (int) Math.round(lane.endTime(i) * scale - origin);
+            if (xEnd <= lastPixel) continue; // pixel column already painted
+            int width = Math.max(1, xEnd - xStart);
+            lastPixel = xStart + width;
+
+            g.setColor(colorFor(lane, i));
+            g.fillRect(xStart, 0, width, height);
+            if (width < 4 || height < 4) continue;
+
+            g.setColor(Color.BLACK);
+            g.drawRect(xStart, 0, width, height);
+
+            // Draw process ID if it fits
+            String label = lane.label(i);
+            int labelWidth = fm.stringWidth(label);
+            if (labelWidth + 4 <= width && fm.getAscent() <= height) {
+                g.drawString(label, xStart + (width - labelWidth) / 2, (height + fm.getAscent()) / 2 - 1);
+            }
+        }
+    }
+
+    // Colors are derived from the label as before, so a process keeps its color across runs
+    private Color colorFor(GanttLane lane, int block) {
+        int pid = lane.pid(block);
+        if (pid < 0) {
+            return labelColors.computeIfAbsent(lane.label(block), l -> seededColor(l.hashCode()));
+        }
+        return pidColors.computeIfAbsent(pid, p -> seededColor(("P" + p).hashCode()));
+    }
+
+    private static Color seededColor(int seed) {
+        Random rand = new Random(seed);
+        return new Color(rand.nextInt(200), rand.nextInt(200), rand.nextInt(200));
+    }
+}
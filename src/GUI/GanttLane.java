@@ -0,0 +1,113 @@
+package GUI;
+
+import Models.GanttBlock;
+import Models.GanttTimeline;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The blocks of one CPU in a Gantt chart, in time order. A single-CPU chart
+ * is one lane over all its blocks; a multi-core chart is split into one
+ * lane per core that indexes into the shared block list.
+ */
+class GanttLane {
+    private final List<GanttBlock> blocks;
+    // Same data as blocks when the chart is a GanttTimeline; read without creating blocks
+    private final GanttTimeline timeline;
+    private final int[] indices; // null: every block
+
+    private GanttLane(List<GanttBlock> blocks, int[] indices) {
+        this.blocks = blocks;
+        this.timeline = blocks instanceof GanttTimeline ? (GanttTimeline) blocks : null;
+        this.indices = indices;
+    }
+
+    /** One lane per core that appears in {@code blocks}; a single lane if all ran on core 0. */
+    static List<GanttLane> split(List<GanttBlock> blocks) {
+        GanttTimeline timeline = blocks instanceof GanttTimeline ? (GanttTimeline) blocks : null;
+        int n = blocks.size();
+        int coreCount = 1;
+        if (timeline != null) {
+            coreCount = timeline.getCoreCount();
+        } else {
+            for (GanttBlock block : blocks) {
+                coreCount = Math.max(coreCount, block.getCore() + 1);
+            }
+        }
+        if (coreCount == 1) {
+            return Collections.singletonList(new GanttLane(blocks, null));
+        }
+
+        int[] counts = new int[coreCount];
+        int[] cores = new int[n];
+        for (int i = 0; i < n; i++) {
+            cores[i] = timeline != null ? timeline.getCore(i) : blocks.get(i).getCore();
+            counts[cores[i]]++;
+        }
+        int[][] indices = new int[coreCount][];
+        for (int core = 0; core < coreCount; core++) {
+            indices[core] = new int[counts[core]];
+            counts[core] = 0;
+        }
+        for (int i = 0; i < n; i++) {
+            indices[cores[i]][counts[cores[i]]++] = i;
+        }
+
+        List<GanttLane> lanes = new ArrayList<>(coreCount);
+        for (int core = 0; core < coreCount; core++) {
+            lanes.add(new GanttLane(blocks, indices[core]));
+        }
+        return lanes;
+    }
+
+    int size() {
+        return indices == null ? blocks.size() : indices.length;
+    }
+
+    int startTime(int k) {
+        int i = index(k);
+        return timeline != null ? timeline.getStartTime(i) : blocks.get(i).getStartTime();
+    }
+
+    int endTime(int k) {
+        int i = index(k);
+        return timeline != null ? timeline.getEndTime(i) : blocks.get(i).getEndTime();
+    }
+
+    /** Process id of the k-th block, or -1 for a free-form label. */
+    int pid(int k) {
+        int i = index(k);
+        return timeline != null ? timeline.getPid(i) : blocks.get(i).getPid();
+    }
+
+    String label(int k) {
+        int pid = pid(k);
+        return pid >= 0 ? "P" + pid : blocks.get(index(k)).getLabel();
+    }
+
+    /** End of the last block, or 0 for an empty lane. */
+    int endTime() {
+        return size() == 0 ? 0 : endTime(size() - 1);
+    }
+
+    /** Index of the first block ending after {@code time}. */
+    int firstEndingAfter(double time) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (endTime(mid) <= time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int index(int k) {
+        return indices == null ? k : indices[k];
+    }
+}
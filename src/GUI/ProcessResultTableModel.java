@@ -0,0 +1,64 @@
+package GUI;
+
+import Models.ProcessResult;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Metrics table backed directly by {@link ProcessResult}s. Cells are read on
+ * demand, and rows can be appended in batches with a single change event
+ * per batch.
+ */
+class ProcessResultTableModel extends AbstractTableModel {
+    private static final String[] COLUMNS = {"PID", "Arrival", "Burst", "Start", "End", "Waiting", "Turnaround"};
+
+    private final List<ProcessResult> rows = new ArrayList<>();
+
+    void append(List<ProcessResult> batch) {
+        if (batch.isEmpty()) return;
+        int first = rows.size();
+        rows.addAll(batch);
+        fireTableRowsInserted(first, rows.size() - 1);
+    }
+
+    void clear() {
+        rows.clear();
+        fireTableDataChanged();
+    }
+
+    @Override
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return Integer.class;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        ProcessResult pr = rows.get(row);
+        switch (column) {
+            case 0: return pr.getPid();
+            case 1: return pr.getArrivalTime();
+            case 2: return pr.getBurstTime();
+            case 3: return pr.getStartTime();
+            case 4: return pr.getEndTime();
+            case 5: return pr.getWaitingTime();
+            default: return pr.getTurnaroundTime();
+        }
+    }
+}
@@ -11,13 +11,29 @@ import java.awt.event.ItemListener;
 import java.io.File;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
 import Models.*;
 import Algorithms.*;
 import Utils.*;
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartPanel;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.ValueMarker;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
 
 public class SchedulerUI extends JFrame {
     private JPanel inputPanel, controlPanel, visualizationPanel;
-    private JButton btnAddProcess, btnGenerate, btnRun, btnClear;
+    private JButton btnAddProcess, btnGenerate, btnRun, btnTune, btnClear, btnExportPDF, btnCancel;
+    private JButton btnSaveWorkload, btnSaveSchedule, btnOpenSchedule;
     private JComboBox<String> algorithmSelector;
     private JRadioButton manualRadio, autoRadio, bestRadio, worstRadio;
     private ButtonGroup modeGroup, autoChoiceGroup;
@@ -26,11 +42,29 @@ public class SchedulerUI extends JFrame {
     
     // Visualization components
     private JTable processTable, metricsTable, comparisonTable;
-    private DefaultTableModel processTableModel, metricsTableModel, comparisonTableModel;
+    private DefaultTableModel processTableModel, comparisonTableModel;
+    private ProcessResultTableModel metricsTableModel;
     private GanttChartPanel ganttPanel;
+    private ChartPanel sweepChartPanel;
     private JLabel metricsLabel;
     private JTextField quantumField;
+    private JTextField coresField;
+    private JComboBox<SchedulerConfig.LoadBalancing> balancingSelector;
     private JTabbedPane resultTabs;
+    private JProgressBar progressBar;
+    private BackgroundTask<?> activeTask;
+    // Results of Run, Best/Worst Fit and reports; the fingerprint key makes edits miss
+    private final ResultCache resultCache = new ResultCache(Runtime.getRuntime().maxMemory() / 4);
+    // Last manual run, extended incrementally when processes are only added
+    private IncrementalSimulation incremental;
+    // Schedule on display, for saving
+    private SchedulingResult shownResult;
+    private String shownAlgorithm;
+
+    // Rows pushed to the metrics table per UI update
+    private static final int ROW_BATCH = 5000;
+    // Statistics listed under the averages; the rest are summarized as a count
+    private static final int MAX_STATISTICS = 16;
 
     public SchedulerUI() {
         setTitle("Smart Process Scheduler");
@@ -48,8 +82,14 @@ public class SchedulerUI extends JFrame {
         btnAddProcess = createStyledButton("Add Manual Process");
         btnGenerate = createStyledButton("Auto Generate");
         btnClear = createStyledButton("Clear All");
-        JButton btnExportPDF = createStyledButton("Generate PDF Report");
+        btnExportPDF = createStyledButton("Generate PDF Report");
         btnExportPDF.addActionListener(e -> generatePDFReport());
+        btnSaveWorkload = createStyledButton("Save Workload");
+        btnSaveWorkload.addActionListener(e -> saveWorkload());
+        btnSaveSchedule = createStyledButton("Save Schedule");
+        btnSaveSchedule.addActionListener(e -> saveSchedule());
+        btnOpenSchedule = createStyledButton("Open Schedule");
+        btnOpenSchedule.addActionListener(e -> openSchedule());
 
         btnAddProcess.addActionListener(e -> addManualProcess());
         btnGenerate.addActionListener(e -> autoGenerateProcesses());
@@ -59,6 +99,9 @@ public class SchedulerUI extends JFrame {
         inputPanel.add(btnGenerate);
         inputPanel.add(btnClear);
         inputPanel.add(btnExportPDF);
+        inputPanel.add(btnSaveWorkload);
+        inputPanel.add(btnSaveSchedule);
+        inputPanel.add(btnOpenSchedule);
 
         // Process Table
         String[] processColumns = {"PID", "Arrival Time", "Burst Time", "Priority"};
@@ -74,7 +117,11 @@ public class SchedulerUI extends JFrame {
         JPanel configPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 5));
 
         // Algorithm Selection
-        algorithmSelector = new JComboBox<>(new String[]{"Select Algorithm","FCFS", "SJF", "Priority", "Round Robin"});
+        algorithmSelector = new JComboBox<>();
+        algorithmSelector.addItem("Select Algorithm");
+        for (String name : AlgorithmRegistry.getNames()) {
+            algorithmSelector.addItem(name);
+        }
         algorithmSelector.setEnabled(true);
         algorithmSelector.addActionListener(e -> toggleQuantumField());
         
@@ -84,11 +131,17 @@ public class SchedulerUI extends JFrame {
         worstRadio = new JRadioButton("Worst Fit");
         quantumField = new JTextField("4", 5);
         quantumField.setEnabled(false);
+        coresField = new JTextField(Integer.toString(SchedulerConfig.DEFAULT_CORES), 3);
+        coresField.setEnabled(false);
+        balancingSelector = new JComboBox<>(SchedulerConfig.LoadBalancing.values());
+        balancingSelector.setSelectedItem(SchedulerConfig.LoadBalancing.WORK_STEALING);
+        balancingSelector.setEnabled(false);
         
         algorithmSelector.addItemListener(e -> {
             if (manualRadio.isSelected()) {
                 String selectedAlgo = (String) algorithmSelector.getSelectedItem();
-                quantumField.setEnabled("Round Robin".equals(selectedAlgo));
+                quantumField.setEnabled(needsQuantum(selectedAlgo));
+                setCoreFieldsEnabled(usesCores(selectedAlgo));
             }
         });
         
@@ -100,7 +153,8 @@ public class SchedulerUI extends JFrame {
                 algorithmSelector.setEnabled(isManual);
 
                 String selectedAlgo = (String) algorithmSelector.getSelectedItem();
-                quantumField.setEnabled(isManual && "Round Robin".equals(selectedAlgo));
+                quantumField.setEnabled(isManual && needsQuantum(selectedAlgo));
+                setCoreFieldsEnabled(isManual && usesCores(selectedAlgo));
             }
         };
         
@@ -120,6 +174,9 @@ public class SchedulerUI extends JFrame {
         
         btnRun = createStyledButton("Run Scheduling");
         btnRun.addActionListener(e -> runScheduler());
+        btnTune = createStyledButton("Tune Quantum");
+        btnTune.setToolTipText("Sweep the quantum of the selected algorithm (or Round Robin) and use the best one");
+        btnTune.addActionListener(e -> tuneQuantum());
 
         algorithmPanel.add(new JLabel("Scheduling Mode:"));
         algorithmPanel.add(manualRadio);
@@ -128,7 +185,11 @@ public class SchedulerUI extends JFrame {
         algorithmPanel.add(algorithmSelector);
         algorithmPanel.add(new JLabel("Round Robin Quantum:"));
         algorithmPanel.add(quantumField);
+        algorithmPanel.add(new JLabel("Cores:"));
+        algorithmPanel.add(coresField);
+        algorithmPanel.add(balancingSelector);
         algorithmPanel.add(btnRun);
+        algorithmPanel.add(btnTune);
         
         configPanel.add(new JLabel("Auto Selection Criteria:"));
         configPanel.add(bestRadio);
@@ -140,18 +201,23 @@ public class SchedulerUI extends JFrame {
             JFileChooser fileChooser = new JFileChooser();
             fileChooser.setDialogTitle("Import Process Table");
             fileChooser.setFileFilter(new FileNameExtensionFilter(
-                    "Supported Files (Word, PDF, CSV, TXT)", "docx", "pdf", "csv", "txt"));
+                    "Supported Files (Word, PDF, CSV, TXT, binary workload)", FileHandler.SUPPORTED_EXTENSIONS));
 
             int result = fileChooser.showOpenDialog(null);
             if (result == JFileChooser.APPROVE_OPTION) {
                 File selectedFile = fileChooser.getSelectedFile();
                 try {
-                    List<Models.Process> importedProcesses = FileHandler.importProcesses(selectedFile);
+                    List<String> skipped = new ArrayList<>();
+                    List<Models.Process> importedProcesses =
+                            FileHandler.importTable(selectedFile, skipped).asList();
 
                     if (importedProcesses.isEmpty()) {
                         JOptionPane.showMessageDialog(null, "No valid processes found in file!", "Info", JOptionPane.INFORMATION_MESSAGE);
                         return;
                     }
+                    if (!skipped.isEmpty()) {
+                        showSkippedRows(skipped);
+                    }
 
                     // ✅ Update internal process list
                     processes.clear();
@@ -193,13 +259,30 @@ public class SchedulerUI extends JFrame {
         metricsLabel.setFont(new Font("SansSerif", Font.BOLD, 16));
         
         resultTabs = new JTabbedPane();
-        resultTabs.addTab("Gantt Chart", new JScrollPane(ganttPanel));
+        resultTabs.addTab("Gantt Chart", ganttPanel);
         resultTabs.addTab("Metrics", createMetricsPanel());
         resultTabs.addTab("Process Table", tableScroll);
         resultTabs.addTab("Algorithm Comparison", createComparisonPanel());
 
+        // Status bar: progress of the running simulation/report and a way to stop it
+        progressBar = new JProgressBar(0, 100);
+        progressBar.setStringPainted(true);
+        progressBar.setVisible(false);
+        btnCancel = createStyledButton("Cancel");
+        btnCancel.setVisible(false);
+        btnCancel.addActionListener(e -> {
+            if (activeTask != null) activeTask.cancel(true);
+        });
+        JPanel progressPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 10, 5));
+        progressPanel.add(progressBar);
+        progressPanel.add(btnCancel);
+
+        JPanel statusPanel = new JPanel(new BorderLayout());
+        statusPanel.add(metricsLabel, BorderLayout.CENTER);
+        statusPanel.add(progressPanel, BorderLayout.EAST);
+
         visualizationPanel.add(resultTabs, BorderLayout.CENTER);
-        visualizationPanel.add(metricsLabel, BorderLayout.SOUTH);
+        visualizationPanel.add(statusPanel, BorderLayout.SOUTH);
 
         // Initialize quantum field state
         toggleQuantumField();
@@ -210,9 +293,71 @@ public class SchedulerUI extends JFrame {
         add(visualizationPanel, BorderLayout.SOUTH);
     }
 
+    private void showSkippedRows(List<String> skipped) {
+        StringBuilder message = new StringBuilder("Some rows could not be read and were skipped:\n");
+        int shown = Math.min(10, skipped.size());
+        for (int i = 0; i < shown; i++) {
+            message.append(skipped.get(i)).append('\n');
+        }
+        if (skipped.size() > shown) {
+            message.append("... and ").append(skipped.size() - shown).append(" more");
+        }
+        JOptionPane.showMessageDialog(this, message.toString(), "Import Warnings", JOptionPane.WARNING_MESSAGE);
+    }
+
     private void toggleQuantumField() {
-        boolean isRR = "Round Robin".equals(algorithmSelector.getSelectedItem());
-        quantumField.setEnabled(isRR);
+        String selectedAlgo = (String) algorithmSelector.getSelectedItem();
+        quantumField.setEnabled(needsQuantum(selectedAlgo));
+        setCoreFieldsEnabled(usesCores(selectedAlgo));
+    }
+
+    private void setCoreFieldsEnabled(boolean enabled) {
+        coresField.setEnabled(enabled);
+        balancingSelector.setEnabled(enabled);
+    }
+
+    private boolean needsQuantum(String algorithmName) {
+        for (SchedulingAlgorithm algorithm : AlgorithmRegistry.getAll()) {
+            if (algorithm.getName().equals(algorithmName)) {
+                return algorithm.needsQuantum();
+            }
+        }
+        return false;
+    }
+
+    private boolean usesCores(String algorithmName) {
+        for (SchedulingAlgorithm algorithm : AlgorithmRegistry.getAll()) {
+            if (algorithm.getName().equals(algorithmName)) {
+                return algorithm.usesCores();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Builds the configuration from the quantum and core fields, or shows
+     * what is wrong with them and returns null.
+     */
+    private SchedulerConfig readConfig() {
+        SchedulerConfig config;
+        try {
+            int quantum = Integer.parseInt(quantumField.getText().trim());
+            if (quantum <= 0) {
+                throw new NumberFormatException("Quantum must be positive");
+            }
+            config = new SchedulerConfig(quantum);
+        } catch (NumberFormatException ex) {
+            JOptionPane.showMessageDialog(this, "Invalid quantum value. Please enter a positive integer.");
+            return null;
+        }
+        try {
+            config.setCores(Integer.parseInt(coresField.getText().trim()));
+        } catch (IllegalArgumentException ex) {
+            JOptionPane.showMessageDialog(this, "Invalid core count. Please enter a positive integer.");
+            return null;
+        }
+        config.setLoadBalancing((SchedulerConfig.LoadBalancing) balancingSelector.getSelectedItem());
+        return config;
     }
 
     private JPanel createComparisonPanel() {
@@ -222,6 +367,12 @@ public class SchedulerUI extends JFrame {
         comparisonTable = new JTable(comparisonTableModel);
         JScrollPane scroll = new JScrollPane(comparisonTable);
         panel.add(scroll, BorderLayout.CENTER);
+
+        // Filled in by a quantum sweep
+        sweepChartPanel = new ChartPanel(null);
+        sweepChartPanel.setPreferredSize(new Dimension(600, 260));
+        sweepChartPanel.setVisible(false);
+        panel.add(sweepChartPanel, BorderLayout.SOUTH);
         return panel;
     }
 
@@ -235,8 +386,7 @@ public class SchedulerUI extends JFrame {
 
     private JPanel createMetricsPanel() {
         JPanel panel = new JPanel(new BorderLayout());
-        String[] columns = {"PID", "Arrival", "Burst", "Start", "End", "Waiting", "Turnaround"};
-        metricsTableModel = new DefaultTableModel(columns, 0);
+        metricsTableModel = new ProcessResultTableModel();
         metricsTable = new JTable(metricsTableModel);
         JScrollPane scroll = new JScrollPane(metricsTable);
         panel.add(scroll, BorderLayout.CENTER);
@@ -321,9 +471,14 @@ public class SchedulerUI extends JFrame {
         processes.clear();
         processCounter = 1;
         processTableModel.setRowCount(0);
-        metricsTableModel.setRowCount(0);
+        metricsTableModel.clear();
         comparisonTableModel.setRowCount(0);
+        sweepChartPanel.setVisible(false);
         ganttPanel.clearChart();
+        shownResult = null;
+        shownAlgorithm = null;
+        resultCache.clear();
+        incremental = null;
         metricsLabel.setText(" ");
     }
 
@@ -333,87 +488,209 @@ public class SchedulerUI extends JFrame {
             return;
         }
 
-        try {
-            int quantum = Integer.parseInt(quantumField.getText());
-            if (quantum <= 0) {
-                throw new NumberFormatException("Quantum must be positive");
-            }
-
-            SchedulingResult result;
-            String selectedAlgo = "";
+        SchedulerConfig config = readConfig();
+        if (config == null) {
+            return;
+        }
 
-            if(manualRadio.isSelected()) {
-                selectedAlgo = (String) algorithmSelector.getSelectedItem();
-            } else {
-                boolean best = bestRadio.isSelected();
-                selectedAlgo = best ? AlgorithmSelector.selectBestAlgorithm(processes) 
-                                  : AlgorithmSelector.selectWorstAlgorithm(processes);
-                JOptionPane.showMessageDialog(this, 
-                    "Selected Algorithm: " + selectedAlgo + " (" + (best ? "Best" : "Worst") + ")");
+        try {
+            ProcessTable table = ProcessTable.fromList(processes);
+            boolean manual = manualRadio.isSelected();
+            boolean best = bestRadio.isSelected();
+            SchedulingAlgorithm manualAlgorithm = manual
+                    ? AlgorithmRegistry.get((String) algorithmSelector.getSelectedItem())
+                    : null;
+            if (manual && (incremental == null || incremental.getAlgorithm() != manualAlgorithm)) {
+                incremental = new IncrementalSimulation(manualAlgorithm);
             }
+            IncrementalSimulation simulation = incremental;
+
+            new BackgroundTask<String>("Simulating") {
+                @Override
+                protected String work() {
+                    SchedulingResult result;
+                    String selectedAlgo;
+                    if (manual) {
+                        selectedAlgo = manualAlgorithm.getName();
+                        long fingerprint = table.fingerprint();
+                        result = resultCache.get(manualAlgorithm, config, fingerprint);
+                        if (result == null) {
+                            // Replays only what the added processes change, if they were all that changed
+                            result = simulation.run(table, config, progressCounter(table.size()));
+                            resultCache.put(manualAlgorithm, config, fingerprint, result);
+                        }
+                    } else {
+                        // Every algorithm has already been simulated for the ranking; reuse its result
+                        long total = (long) table.size() * AlgorithmRegistry.getAll().size();
+                        AlgorithmRanking ranking = AlgorithmSelector.rank(table, config, progressCounter(total), resultCache);
+                        selectedAlgo = best ? ranking.getBest() : ranking.getWorst();
+                        result = ranking.getResult(selectedAlgo);
+                        publish(() -> updateComparisonTable(ranking.getResults()));
+                    }
+                    publishResult(this, result, selectedAlgo);
+                    return selectedAlgo;
+                }
 
-            switch(selectedAlgo) {
-                case "FCFS": 
-                    result = FCFS.schedule(processes);
-                    break;
-                case "SJF": 
-                    result = SJF.schedule(processes);
-                    break;
-                case "Priority": 
-                    result = PriorityScheduling.schedule(processes);
-                    break;
-                case "Round Robin": 
-                    result = RoundRobin.schedule(processes, quantum);
-                    break;
-                default: 
-                    throw new IllegalArgumentException("Invalid algorithm");
-            }
+                @Override
+                void succeeded(String selectedAlgo) {
+                    if (!manual) {
+                        JOptionPane.showMessageDialog(SchedulerUI.this,
+                            "Selected Algorithm: " + selectedAlgo + " (" + (best ? "Best" : "Worst") + ")");
+                    }
+                }
 
-            updateVisualization(result, selectedAlgo);
-        } catch (NumberFormatException ex) {
-            JOptionPane.showMessageDialog(this, "Invalid quantum value. Please enter a positive integer.");
+                @Override
+                void failed(Throwable error) {
+                    JOptionPane.showMessageDialog(SchedulerUI.this, "Error in scheduling: " + error.getMessage());
+                }
+            }.start();
         } catch (Exception ex) {
             JOptionPane.showMessageDialog(this, "Error in scheduling: " + ex.getMessage());
         }
     }
 
-    private void updateVisualization(SchedulingResult result, String algorithm) {
-        // Update Gantt Chart
-        ganttPanel.setGanttBlocks(result.getGanttChart());
-        
-        // Update Metrics
-        metricsTableModel.setRowCount(0);
-        for(ProcessResult pr : result.getProcessResults()) {
-            metricsTableModel.addRow(new Object[]{
-                pr.getPid(),
-                pr.getArrivalTime(),
-                pr.getBurstTime(),
-                pr.getStartTime(),
-                pr.getEndTime(),
-                pr.getWaitingTime(),
-                pr.getTurnaroundTime()
-            });
+    /**
+     * Pushes a finished result to the UI from a background task: the Gantt
+     * chart and averages first, then the metrics table in batches of
+     * {@link #ROW_BATCH} rows. Swing coalesces the updates, so the event
+     * dispatch thread never handles the whole table at once.
+     */
+    private void publishResult(BackgroundTask<?> task, SchedulingResult result, String algorithm) {
+        task.publish(() -> {
+            shownResult = result;
+            shownAlgorithm = algorithm;
+            ganttPanel.setGanttBlocks(result.getGanttChart());
+            metricsTableModel.clear();
+            StringBuilder statistics = new StringBuilder();
+            int shown = 0;
+            for (Map.Entry<String, Double> statistic : result.getStatistics().entrySet()) {
+                // Per-core statistics of a large machine would not fit
+                if (shown++ == MAX_STATISTICS) {
+                    statistics.append("<br>... (").append(result.getStatistics().size() - MAX_STATISTICS).append(" more)");
+                    break;
+                }
+                double value = statistic.getValue();
+                statistics.append(String.format(value == Math.rint(value) ? "<br><b>%s:</b> %.0f" : "<br><b>%s:</b> %.3f",
+                        statistic.getKey(), value));
+            }
+            metricsLabel.setText(String.format("<html><b>Algorithm:</b> %s<br>"
+                + "<b>Average Waiting Time:</b> %.2f<br>"
+                + "<b>Average Turnaround Time:</b> %.2f%s</html>",
+                algorithm,
+                result.getAverageWaitingTime(),
+                result.getAverageTurnaroundTime(),
+                statistics));
+            resultTabs.setSelectedIndex(0); // Switch to Gantt Chart tab
+        });
+
+        List<ProcessResult> rows = result.getProcessResults();
+        for (int from = 0; from < rows.size(); from += ROW_BATCH) {
+            task.checkCancelled();
+            List<ProcessResult> batch = rows.subList(from, Math.min(rows.size(), from + ROW_BATCH));
+            task.publish(() -> metricsTableModel.append(batch));
         }
-        
-        String metrics = String.format("<html><b>Algorithm:</b> %s<br>"
-            + "<b>Average Waiting Time:</b> %.2f<br>"
-            + "<b>Average Turnaround Time:</b> %.2f</html>",
-            algorithm,
-            result.getAverageWaitingTime(),
-            result.getAverageTurnaroundTime());
-        
-        metricsLabel.setText(metrics);
-        resultTabs.setSelectedIndex(0); // Switch to Gantt Chart tab
     }
     
-    private List<Models.Process> deepCopyProcesses(List<Models.Process> original) {
-        List<Models.Process> copy = new ArrayList<>();
-        for (Models.Process p : original) {
-            copy.add(new Models.Process(p.getId(), p.getArrivalTime(), p.getBurstTime(), p.getPriority()));
+    /**
+     * Sweeps the quantum of the selected algorithm, or of Round Robin if it
+     * takes none, from 1 to the longest burst. Plots the metrics against the
+     * quantum in the comparison tab and puts the best quantum in the field.
+     */
+    private void tuneQuantum() {
+        if (processes.isEmpty()) {
+            JOptionPane.showMessageDialog(this, "No processes to schedule!");
+            return;
+        }
+        SchedulerConfig config = readConfig();
+        if (config == null) {
+            return;
+        }
+
+        String selectedAlgo = (String) algorithmSelector.getSelectedItem();
+        SchedulingAlgorithm algorithm = manualRadio.isSelected() && needsQuantum(selectedAlgo)
+                ? AlgorithmRegistry.get(selectedAlgo)
+                : new RoundRobin();
+        ProcessTable table = ProcessTable.fromList(processes);
+        int maxQuantum = QuantumSweep.maxUsefulQuantum(table);
+
+        new BackgroundTask<QuantumSweepResult>("Tuning quantum") {
+            @Override
+            protected QuantumSweepResult work() {
+                long total = (long) table.size() * QuantumSweep.plannedEvaluations(table.size(), 1, maxQuantum);
+                return QuantumSweep.tune(algorithm, table, config, 1, maxQuantum, progressCounter(total));
+            }
+
+            @Override
+            void succeeded(QuantumSweepResult sweep) {
+                showSweepChart(sweep);
+                ScheduleMetrics best = sweep.getOptimalMetrics();
+                quantumField.setText(Integer.toString(sweep.getOptimalQuantum()));
+                metricsLabel.setText(String.format("<html><b>Optimal %s quantum:</b> %d<br>"
+                    + "<b>Average Waiting Time:</b> %.2f<br>"
+                    + "<b>Average Turnaround Time:</b> %.2f<br>"
+                    + "<b>Context Switches:</b> %d (%d quanta evaluated)</html>",
+                    sweep.getAlgorithm(), sweep.getOptimalQuantum(),
+                    best.getAverageWaitingTime(), best.getAverageTurnaroundTime(),
+                    best.getContextSwitches(), sweep.getMetrics().size()));
+                resultTabs.setSelectedIndex(3); // Algorithm Comparison tab
+            }
+
+            @Override
+            void failed(Throwable error) {
+                JOptionPane.showMessageDialog(SchedulerUI.this, "Error in quantum sweep: " + error.getMessage());
+            }
+        }.start();
+    }
+
+    // Times on the left axis, context switches on the right
+    private void showSweepChart(QuantumSweepResult sweep) {
+        XYSeries waiting = new XYSeries("Average Waiting Time");
+        XYSeries turnaround = new XYSeries("Average Turnaround Time");
+        XYSeries switches = new XYSeries("Context Switches");
+        for (Map.Entry<Integer, ScheduleMetrics> entry : sweep.getMetrics().entrySet()) {
+            waiting.add(entry.getKey(), entry.getValue().getAverageWaitingTime());
+            turnaround.add(entry.getKey(), entry.getValue().getAverageTurnaroundTime());
+            switches.add(entry.getKey(), entry.getValue().getContextSwitches());
         }
-        return copy;
+        XYSeriesCollection times = new XYSeriesCollection();
+        times.addSeries(waiting);
+        times.addSeries(turnaround);
+        XYSeriesCollection switchCounts = new XYSeriesCollection();
+        switchCounts.addSeries(switches);
+
+        JFreeChart chart = ChartFactory.createXYLineChart(
+                sweep.getAlgorithm() + " Quantum Sweep",
+                "Quantum",
+                "Time",
+                times,
+                PlotOrientation.VERTICAL,
+                true, true, false
+        );
+        XYPlot plot = chart.getXYPlot();
+        plot.setDataset(1, switchCounts);
+        plot.setRangeAxis(1, new NumberAxis("Context Switches"));
+        plot.mapDatasetToRangeAxis(1, 1);
+        plot.setRenderer(1, new XYLineAndShapeRenderer(true, false));
+        ValueMarker optimum = new ValueMarker(sweep.getOptimalQuantum());
+        optimum.setPaint(Color.RED);
+        optimum.setLabel("q = " + sweep.getOptimalQuantum());
+        plot.addDomainMarker(optimum);
+
+        sweepChartPanel.setChart(chart);
+        sweepChartPanel.setVisible(true);
+        sweepChartPanel.revalidate();
     }
 
+    private void updateComparisonTable(Map<String, SchedulingResult> results) {
+        comparisonTableModel.setRowCount(0);
+        for (Map.Entry<String, SchedulingResult> entry : results.entrySet()) {
+            comparisonTableModel.addRow(new Object[]{
+                entry.getKey(),
+                String.format("%.2f", entry.getValue().getAverageWaitingTime()),
+                String.format("%.2f", entry.getValue().getAverageTurnaroundTime())
+            });
+        }
+    }
 
     private void generatePDFReport() {
         if (processes.isEmpty()) {
@@ -421,146 +698,310 @@ public class SchedulerUI extends JFrame {
             return;
         }
 
-        try {
-            int quantum = Integer.parseInt(quantumField.getText());
-            if (quantum <= 0) {
-                throw new NumberFormatException("Quantum must be positive");
-            }
+        SchedulerConfig config = readConfig();
+        if (config == null) {
+            return;
+        }
 
-            // Create deep copies of the original process list for each algorithm
-            Map<String, SchedulingResult> allResults = new LinkedHashMap<>();
-            Map<String, List<Models.Process>> allProcesses = new LinkedHashMap<>();
+        // Algorithms never modify their input, so every algorithm shares one snapshot
+        ProcessTable table = ProcessTable.fromList(processes);
 
-            List<Models.Process> fcfsProcesses = deepCopyProcesses(processes);
-            allResults.put("FCFS", FCFS.schedule(fcfsProcesses));
-            allProcesses.put("FCFS", fcfsProcesses);
+        new BackgroundTask<Map<String, SchedulingResult>>("Simulating") {
+            @Override
+            protected Map<String, SchedulingResult> work() {
+                long total = (long) table.size() * AlgorithmRegistry.getAll().size();
+                Map<String, SchedulingResult> allResults =
+                        AlgorithmSelector.rank(table, config, progressCounter(total), resultCache).getResults();
 
-            List<Models.Process> sjfProcesses = deepCopyProcesses(processes);
-            allResults.put("SJF", SJF.schedule(sjfProcesses));
-            allProcesses.put("SJF", sjfProcesses);
+                // Update the comparison table in the UI
+                publish(() -> updateComparisonTable(allResults));
+                return allResults;
+            }
 
-            List<Models.Process> priorityProcesses = deepCopyProcesses(processes);
-            allResults.put("Priority", PriorityScheduling.schedule(priorityProcesses));
-            allProcesses.put("Priority", priorityProcesses);
+            @Override
+            void succeeded(Map<String, SchedulingResult> allResults) {
+                JFileChooser fileChooser = new JFileChooser();
+                fileChooser.setDialogTitle("Save PDF Report");
+                fileChooser.setFileFilter(new FileNameExtensionFilter("PDF Files", "pdf"));
 
-            List<Models.Process> rrProcesses = deepCopyProcesses(processes);
-            allResults.put("Round Robin", RoundRobin.schedule(rrProcesses, quantum));
-            allProcesses.put("Round Robin", rrProcesses);
+                if (fileChooser.showSaveDialog(SchedulerUI.this) == JFileChooser.APPROVE_OPTION) {
+                    String path = fileChooser.getSelectedFile().getAbsolutePath();
+                    if (!path.endsWith(".pdf")) {
+                        path += ".pdf";
+                    }
+                    writePDFReport(table, allResults, path);
+                }
+            }
 
-            // Update the comparison table in the UI
-            comparisonTableModel.setRowCount(0);
-            for (Map.Entry<String, SchedulingResult> entry : allResults.entrySet()) {
-                comparisonTableModel.addRow(new Object[]{
-                    entry.getKey(),
-                    String.format("%.2f", entry.getValue().getAverageWaitingTime()),
-                    String.format("%.2f", entry.getValue().getAverageTurnaroundTime())
-                });
+            @Override
+            void failed(Throwable error) {
+                JOptionPane.showMessageDialog(SchedulerUI.this, "Error generating report: " + error.getMessage());
+                error.printStackTrace();
             }
+        }.start();
+    }
 
-            JFileChooser fileChooser = new JFileChooser();
-            fileChooser.setDialogTitle("Save PDF Report");
-            fileChooser.setFileFilter(new FileNameExtensionFilter("PDF Files", "pdf"));
+    private void writePDFReport(ProcessTable table, Map<String, SchedulingResult> allResults, String path) {
+        List<Models.Process> snapshot = table.asList();
+        Map<String, List<Models.Process>> allProcesses = new LinkedHashMap<>();
+        for (String algorithm : allResults.keySet()) {
+            allProcesses.put(algorithm, snapshot);
+        }
 
-            int result = fileChooser.showSaveDialog(this);
-            if (result == JFileChooser.APPROVE_OPTION) {
-                File selectedFile = fileChooser.getSelectedFile();
-                String path = selectedFile.getAbsolutePath();
-                if (!path.endsWith(".pdf")) {
-                    path += ".pdf";
+        new BackgroundTask<File>("Writing report") {
+            @Override
+            protected File work() throws Exception {
+                File file = new File(path);
+                try {
+                    ReportGenerator.generateCompleteReport(allResults, allProcesses, path, this::checkCancelled);
+                } finally {
+                    if (isCancelled()) {
+                        file.delete(); // don't leave a report the user gave up on
+                    }
                 }
+                return file;
+            }
 
-                ReportGenerator.generateCompleteReport(allResults, allProcesses, path);
-
-                int openOption = JOptionPane.showConfirmDialog(this,
+            @Override
+            void succeeded(File file) throws Exception {
+                int openOption = JOptionPane.showConfirmDialog(SchedulerUI.this,
                     "Report generated successfully.\nOpen it now?", "Success", JOptionPane.YES_NO_OPTION);
                 if (openOption == JOptionPane.YES_OPTION) {
-                    Desktop.getDesktop().open(new File(path));
+                    Desktop.getDesktop().open(file);
                 }
             }
 
-        } catch (NumberFormatException ex) {
-            JOptionPane.showMessageDialog(this, "Invalid quantum value. Please enter a positive integer.");
-        } catch (Exception ex) {
-            JOptionPane.showMessageDialog(this, "Error generating report: " + ex.getMessage());
-            ex.printStackTrace();
+            @Override
+            void failed(Throwable error) {
+                JOptionPane.showMessageDialog(SchedulerUI.this, "Error generating report: " + error.getMessage());
+                error.printStackTrace();
+            }
+        }.start();
+    }
+
+    private void saveWorkload() {
+        if (processes.isEmpty()) {
+            JOptionPane.showMessageDialog(this, "No processes to save!");
+            return;
         }
+        File file = chooseFile("Save Workload", "Binary Workload", BinaryFormat.WORKLOAD_EXTENSION, true);
+        if (file == null) {
+            return;
+        }
+        ProcessTable table = ProcessTable.fromList(processes);
+        new BackgroundTask<Void>("Saving workload") {
+            @Override
+            protected Void work() throws Exception {
+                BinaryFormat.writeWorkload(table, file.toPath());
+                return null;
+            }
+
+            @Override
+            void succeeded(Void ignored) {
+            }
+
+            @Override
+            void failed(Throwable error) {
+                JOptionPane.showMessageDialog(SchedulerUI.this, "Error saving workload: " + error.getMessage());
+            }
+        }.start();
     }
 
+    private void saveSchedule() {
+        if (shownResult == null) {
+            JOptionPane.showMessageDialog(this, "Run or open a schedule first!");
+            return;
+        }
+        File file = chooseFile("Save Schedule", "Binary Schedule", BinaryFormat.SCHEDULE_EXTENSION, true);
+        if (file == null) {
+            return;
+        }
+        SchedulingResult result = shownResult;
+        String algorithm = shownAlgorithm;
+        new BackgroundTask<Void>("Saving schedule") {
+            @Override
+            protected Void work() throws Exception {
+                BinaryFormat.writeSchedule(result, algorithm, file.toPath());
+                return null;
+            }
+
+            @Override
+            void succeeded(Void ignored) {
+            }
 
-    // Custom Gantt Chart Panel with dynamic scaling
-    class GanttChartPanel extends JPanel {
-        private List<GanttBlock> ganttBlocks = new ArrayList<>();
+            @Override
+            void failed(Throwable error) {
+                JOptionPane.showMessageDialog(SchedulerUI.this, "Error saving schedule: " + error.getMessage());
+            }
+        }.start();
+    }
 
-        public void setGanttBlocks(List<GanttBlock> blocks) {
-            this.ganttBlocks = blocks;
-            revalidate();
-            repaint();
+    private void openSchedule() {
+        File file = chooseFile("Open Schedule", "Binary Schedule", BinaryFormat.SCHEDULE_EXTENSION, false);
+        if (file == null) {
+            return;
         }
+        new BackgroundTask<Void>("Loading schedule") {
+            @Override
+            protected Void work() throws Exception {
+                BinaryFormat.Schedule schedule = BinaryFormat.readSchedule(file.toPath());
+                publishResult(this, schedule.getResult(), schedule.getAlgorithm());
+                return null;
+            }
 
-        public void clearChart() {
-            ganttBlocks.clear();
-            repaint();
+            @Override
+            void succeeded(Void ignored) {
+            }
+
+            @Override
+            void failed(Throwable error) {
+                JOptionPane.showMessageDialog(SchedulerUI.this, "Error opening schedule: " + error.getMessage());
+            }
+        }.start();
+    }
+
+    /** @return the chosen file, with the extension appended when saving; null if cancelled */
+    private File chooseFile(String title, String description, String extension, boolean save) {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setDialogTitle(title);
+        fileChooser.setFileFilter(new FileNameExtensionFilter(description + " (." + extension + ")", extension));
+        int option = save ? fileChooser.showSaveDialog(this) : fileChooser.showOpenDialog(this);
+        if (option != JFileChooser.APPROVE_OPTION) {
+            return null;
         }
+        File file = fileChooser.getSelectedFile();
+        if (save && !file.getName().toLowerCase().endsWith("." + extension)) {
+            file = new File(file.getPath() + "." + extension);
+        }
+        return file;
+    }
 
-        @Override
-        protected void paintComponent(Graphics g) {
-            super.paintComponent(g);
-            if(ganttBlocks.isEmpty()) return;
-
-            int y = 50;
-            int height = 40;
-            int panelWidth = getWidth();
-            int maxTime = ganttBlocks.get(ganttBlocks.size()-1).getEndTime();
-            int timeScale = Math.max(20, (panelWidth - 100) / Math.max(1, maxTime));
-
-            // Draw blocks
-            for(GanttBlock block : ganttBlocks) {
-                int xStart = block.getStartTime() * timeScale + 50;
-                int width = (block.getEndTime() - block.getStartTime()) * timeScale;
-                
-                g.setColor(getRandomColor(block.getLabel().hashCode()));
-                g.fillRect(xStart, y, width, height);
-                g.setColor(Color.BLACK);
-                g.drawRect(xStart, y, width, height);
-                
-                // Draw process ID
-                String label = block.getLabel();
-                FontMetrics fm = g.getFontMetrics();
-                int labelWidth = fm.stringWidth(label);
-                g.drawString(label, 
-                    xStart + (width - labelWidth)/2, 
-                    y + height/2 + 5);
-            }
-
-            // Draw timeline
-            int timelineY = y + height + 20;
-            g.drawLine(50, timelineY, 50 + maxTime * timeScale, timelineY);
-            
-            // Draw time markers
-            for(int t=0; t<=maxTime; t++) {
-                int x = 50 + t * timeScale;
-                g.drawLine(x, timelineY - 5, x, timelineY + 5);
-                if(t % 5 == 0 || t == maxTime) {
-                    String timeLabel = Integer.toString(t);
-                    int labelWidth = g.getFontMetrics().stringWidth(timeLabel);
-                    g.drawString(timeLabel, x - labelWidth/2, timelineY + 20);
+    private void setBusy(boolean busy, String description) {
+        btnRun.setEnabled(!busy);
+        btnTune.setEnabled(!busy);
+        btnExportPDF.setEnabled(!busy);
+        btnSaveWorkload.setEnabled(!busy);
+        btnSaveSchedule.setEnabled(!busy);
+        btnOpenSchedule.setEnabled(!busy);
+        btnClear.setEnabled(!busy);
+        btnCancel.setVisible(busy);
+        btnCancel.setEnabled(busy);
+        progressBar.setVisible(busy);
+        progressBar.setIndeterminate(busy);
+        progressBar.setValue(0);
+        progressBar.setString(description);
+    }
+
+    /**
+     * Runs a simulation or report off the event dispatch thread. One task
+     * runs at a time; the status bar shows its progress and can cancel it.
+     * Intermediate UI updates are published as {@code Runnable}s, which Swing
+     * delivers to the event dispatch thread in coalesced batches.
+     */
+    private abstract class BackgroundTask<T> extends SwingWorker<T, Runnable> {
+        private final String description;
+        // Claimed by whichever comes first: the work starting, or a cancel before it started
+        private final AtomicBoolean started = new AtomicBoolean();
+
+        BackgroundTask(String description) {
+            this.description = description;
+        }
+
+        void start() {
+            activeTask = this;
+            setBusy(true, description);
+            addPropertyChangeListener(e -> {
+                if ("progress".equals(e.getPropertyName()) && activeTask == this) {
+                    progressBar.setIndeterminate(false);
+                    progressBar.setValue((Integer) e.getNewValue());
+                    progressBar.setString(description + " " + e.getNewValue() + "%");
                 }
+            });
+            execute();
+        }
+
+        /** The background work; runs off the event dispatch thread. */
+        protected abstract T work() throws Exception;
+
+        @Override
+        protected final T doInBackground() throws Exception {
+            if (!started.compareAndSet(false, true)) {
+                return null;
+            }
+            try {
+                return work();
+            } finally {
+                // done() fires as soon as the task is cancelled, but the work may still be running
+                SwingUtilities.invokeLater(this::finished);
             }
         }
 
-        private Color getRandomColor(int seed) {
-            Random rand = new Random(seed);
-            return new Color(rand.nextInt(200), rand.nextInt(200), rand.nextInt(200));
+        /** Aborts the background work once the user has pressed Cancel. */
+        void checkCancelled() {
+            if (isCancelled()) throw new CancellationException();
+        }
+
+        /**
+         * Progress callback for a simulation of {@code total} process
+         * completions; safe to call from several threads at once.
+         */
+        IntConsumer progressCounter(long total) {
+            AtomicLong done = new AtomicLong();
+            return completed -> {
+                checkCancelled();
+                setProgress((int) Math.min(100, done.addAndGet(completed) * 100 / Math.max(1, total)));
+            };
+        }
+
+        void publish(Runnable update) {
+            super.publish(update);
+        }
+
+        @Override
+        protected void process(List<Runnable> updates) {
+            if (isCancelled()) return;
+            for (Runnable update : updates) {
+                update.run();
+            }
         }
 
         @Override
-        public Dimension getPreferredSize() {
-            if(ganttBlocks.isEmpty()) return new Dimension(800, 200);
-            int maxTime = ganttBlocks.get(ganttBlocks.size()-1).getEndTime();
-            return new Dimension(maxTime * 40 + 100, 200);
+        protected final void done() {
+            if (isCancelled()) {
+                if (started.compareAndSet(false, true)) {
+                    finished();
+                } else if (activeTask == this) {
+                    btnCancel.setEnabled(false);
+                    progressBar.setString("Cancelling " + description.toLowerCase() + "...");
+                }
+                return;
+            }
+            try {
+                succeeded(get());
+            } catch (ExecutionException e) {
+                failed(e.getCause());
+            } catch (Exception e) {
+                failed(e);
+            }
+        }
+
+        // The UI stays busy until the work has actually stopped, so a new task cannot race a cancelled one
+        private void finished() {
+            if (activeTask == this) {
+                activeTask = null;
+                setBusy(false, null);
+            }
+            if (isCancelled()) {
+                metricsLabel.setText(description + " cancelled.");
+            }
         }
+
+        abstract void succeeded(T value) throws Exception;
+
+        abstract void failed(Throwable error);
     }
 
+
     public static void main(String[] args) {
         EventQueue.invokeLater(() -> {
             try {
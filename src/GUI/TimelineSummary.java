@@ -0,0 +1,104 @@
+package GUI;
+
+import java.util.Arrays;
+
+/**
+ * Multi-resolution summary of one Gantt lane for drawing zoomed-out views.
+ * Level 0 splits the schedule into at most {@link #MAX_BUCKETS} equal time
+ * buckets; every further level halves the resolution. Each bucket records
+ * how long the CPU was busy and which block was dominant, i.e. had the
+ * longest run inside the bucket. At coarser levels the dominant block is
+ * taken from the child with the longer run, so runs crossing a bucket
+ * boundary count once per bucket.
+ */
+class TimelineSummary {
+    static final int MAX_BUCKETS = 1 << 18;
+
+    private final long bucketWidth;
+    private final int[][] dominant;
+    private final int[][] runs;
+    private final long[][] busy;
+
+    TimelineSummary(GanttLane lane) {
+        int n = lane.size();
+        long maxTime = lane.endTime();
+        bucketWidth = Math.max(1, (maxTime + MAX_BUCKETS - 1) / MAX_BUCKETS);
+        int count = (int) Math.max(1, (maxTime + bucketWidth - 1) / bucketWidth);
+
+        int levels = 1;
+        for (int c = count; c > 1; c = (c + 1) / 2) {
+            levels++;
+        }
+        dominant = new int[levels][];
+        runs = new int[levels][];
+        busy = new long[levels][];
+
+        int[] dominant0 = new int[count];
+        int[] runs0 = new int[count];
+        long[] busy0 = new long[count];
+        Arrays.fill(dominant0, -1);
+        for (int i = 0; i < n; i++) {
+            long start = lane.startTime(i);
+            long end = lane.endTime(i);
+            for (long b = start / bucketWidth; b * bucketWidth < end; b++) {
+                int overlap = (int) (Math.min(end, (b + 1) * bucketWidth) - Math.max(start, b * bucketWidth));
+                busy0[(int) b] += overlap;
+                if (overlap > runs0[(int) b]) {
+                    runs0[(int) b] = overlap;
+                    dominant0[(int) b] = i;
+                }
+            }
+        }
+        dominant[0] = dominant0;
+        runs[0] = runs0;
+        busy[0] = busy0;
+
+        for (int level = 1; level < levels; level++) {
+            int[] childDominant = dominant[level - 1];
+            int[] childRuns = runs[level - 1];
+            long[] childBusy = busy[level - 1];
+            int size = (childDominant.length + 1) / 2;
+            dominant[level] = new int[size];
+            runs[level] = new int[size];
+            busy[level] = new long[size];
+            for (int i = 0; i < size; i++) {
+                int left = 2 * i;
+                int right = Math.min(left + 1, childDominant.length - 1);
+                int winner = childRuns[right] > childRuns[left] ? right : left;
+                dominant[level][i] = childDominant[winner];
+                runs[level][i] = childRuns[winner];
+                busy[level][i] = childBusy[left] + (right != left ? childBusy[right] : 0);
+            }
+        }
+    }
+
+    /**
+     * The coarsest level whose buckets are at most {@code unitsPerPixel}
+     * wide, or -1 if even level 0 is coarser than one pixel.
+     */
+    int levelFor(double unitsPerPixel) {
+        int level = -1;
+        while (level + 1 < dominant.length && bucketWidth(level + 1) <= unitsPerPixel) {
+            level++;
+        }
+        return level;
+    }
+
+    long bucketWidth(int level) {
+        return bucketWidth << level;
+    }
+
+    int bucketCount(int level) {
+        return dominant[level].length;
+    }
+
+    /** Lane index of the dominant block in the bucket, or -1 if the CPU was idle throughout. */
+    int dominantBlock(int level, int bucket) {
+        return dominant[level][bucket];
+    }
+
+    /** Fraction of the bucket during which some process was running. */
+    double utilization(int level, int bucket) {
+        return Math.min(1.0, (double) busy[level][bucket] / bucketWidth(level));
+    }
+}
@@ -1,9 +1,15 @@
 // Main.java
 import javax.swing.*;
+import CLI.BatchRunner;
 import GUI.SchedulerUI;
 
 public class Main {
     public static void main(String[] args) {
+        // Any argument selects the headless batch mode; no window is created
+        if (args.length > 0) {
+            System.exit(BatchRunner.run(args));
+        }
+
         SwingUtilities.invokeLater(() -> {
             SchedulerUI ui = new SchedulerUI();
             ui.setVisible(true);
@@ -3,6 +3,8 @@ package Models;
 public class GanttBlock {
     private int startTime;
     private int endTime;
+    private int pid = -1;
+    private int core;
     private String label;
 
     public GanttBlock(int startTime, int endTime, String label) {
@@ -11,6 +13,22 @@ public class GanttBlock {
         this.label = label;
     }
 
+    /**
+     * Block for process {@code pid}; the "P&lt;pid&gt;" label is only built if
+     * {@link #getLabel()} is called.
+     */
+    public GanttBlock(int startTime, int endTime, int pid) {
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.pid = pid;
+    }
+
+    /** Block for process {@code pid} running on CPU {@code core}. */
+    public GanttBlock(int startTime, int endTime, int pid, int core) {
+        this(startTime, endTime, pid);
+        this.core = core;
+    }
+
     public int getStartTime() {
         return startTime;
     }
@@ -19,7 +37,20 @@ public class GanttBlock {
         return endTime;
     }
 
+    /** Process id, or -1 if the block was created from a free-form label. */
+    public int getPid() {
+        return pid;
+    }
+
+    /** CPU the block ran on; 0 for single-CPU schedules. */
+    public int getCore() {
+        return core;
+    }
+
     public String getLabel() {
+        if (label == null) {
+            label = "P" + pid;
+        }
         return label;
     }
 }
@@ -0,0 +1,115 @@
+package Models;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Compact Gantt chart storage. Slices are kept as parallel start/end/pid
+ * {@code int[]} columns, and a slice that continues the previous one for the
+ * same process is merged into it on append. The list view creates
+ * {@link GanttBlock}s on demand, so existing chart and report code can iterate
+ * it like any other {@code List<GanttBlock>}.
+ *
+ * Multi-core schedules also record the core of every slice. The core column
+ * is only allocated once a slice on a core other than 0 is appended.
+ */
+public class GanttTimeline extends AbstractList<GanttBlock> implements RandomAccess {
+    private int[] startTimes;
+    private int[] endTimes;
+    private int[] pids;
+    private int[] cores; // null while every slice ran on core 0
+    private int coreCount = 1;
+    private int size;
+
+    public GanttTimeline() {
+        this(16);
+    }
+
+    public GanttTimeline(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        startTimes = new int[capacity];
+        endTimes = new int[capacity];
+        pids = new int[capacity];
+    }
+
+    /**
+     * Records that {@code pid} ran from {@code startTime} to {@code endTime}.
+     * Back-to-back slices of the same process become one block.
+     */
+    public void append(int startTime, int endTime, int pid) {
+        append(startTime, endTime, pid, 0);
+    }
+
+    /**
+     * Records that {@code pid} ran on {@code core} from {@code startTime} to
+     * {@code endTime}. Only a slice directly following one of the same
+     * process on the same core is merged into it.
+     */
+    public void append(int startTime, int endTime, int pid, int core) {
+        int last = size - 1;
+        if (last >= 0 && pids[last] == pid && endTimes[last] == startTime && coreAt(last) == core) {
+            endTimes[last] = endTime;
+            return;
+        }
+        if (size == startTimes.length) {
+            int capacity = size + (size >> 1) + 1;
+            startTimes = Arrays.copyOf(startTimes, capacity);
+            endTimes = Arrays.copyOf(endTimes, capacity);
+            pids = Arrays.copyOf(pids, capacity);
+            if (cores != null) cores = Arrays.copyOf(cores, capacity);
+        }
+        if (core != 0 && cores == null) {
+            cores = new int[startTimes.length];
+        }
+        startTimes[size] = startTime;
+        endTimes[size] = endTime;
+        pids[size] = pid;
+        if (cores != null) cores[size] = core;
+        coreCount = Math.max(coreCount, core + 1);
+        size++;
+    }
+
+    public int getStartTime(int index) {
+        return startTimes[checkIndex(index)];
+    }
+
+    public int getEndTime(int index) {
+        return endTimes[checkIndex(index)];
+    }
+
+    public int getPid(int index) {
+        return pids[checkIndex(index)];
+    }
+
+    public int getCore(int index) {
+        return coreAt(checkIndex(index));
+    }
+
+    /** Highest core that ran a slice, plus one; 1 for a single-CPU schedule. */
+    public int getCoreCount() {
+        return coreCount;
+    }
+
+    @Override
+    public GanttBlock get(int index) {
+        checkIndex(index);
+        return new GanttBlock(startTimes[index], endTimes[index], pids[index], coreAt(index));
+    }
+
+    private int coreAt(int index) {
+        return cores == null ? 0 : cores[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,31 @@
+package Models;
+
+/**
+ * Distribution summary of one per-process metric (e.g. waiting time).
+ * Percentiles come from a log-linear histogram and are accurate to within
+ * about 1.6% of the value; mean, min and max are exact.
+ */
+public class MetricSummary {
+    private final double mean;
+    private final int min;
+    private final int max;
+    private final int p50;
+    private final int p90;
+    private final int p99;
+
+    public MetricSummary(double mean, int min, int max, int p50, int p90, int p99) {
+        this.mean = mean;
+        this.min = min;
+        this.max = max;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+    }
+
+    public double getMean() { return mean; }
+    public int getMin() { return min; }
+    public int getMax() { return max; }
+    public int getP50() { return p50; }
+    public int getP90() { return p90; }
+    public int getP99() { return p99; }
+}
@@ -0,0 +1,20 @@
+package Models;
+
+/**
+ * Forward-only cursor over a workload in nondecreasing arrival order. Only
+ * the current process is exposed, so a stream can describe a workload far
+ * larger than memory; engines that accept one keep just their runnable set.
+ */
+public interface ProcessStream {
+
+    /** Moves to the next process; false once the stream is exhausted. */
+    boolean next();
+
+    int getId();
+
+    int getArrivalTime();
+
+    int getBurstTime();
+
+    int getPriority();
+}
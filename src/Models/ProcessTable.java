@@ -0,0 +1,185 @@
+package Models;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Column-oriented workload: id, arrival, burst and priority live in parallel
+ * {@code int[]} arrays instead of one {@link Process} object per row.
+ * A table may be a view over a range of another table's columns; views share
+ * the arrays and never copy.
+ */
+public class ProcessTable {
+    private final int[] ids;
+    private final int[] arrivalTimes;
+    private final int[] burstTimes;
+    private final int[] priorities;
+    private final int offset;
+    private final int size;
+
+    /**
+     * Wraps the given columns without copying them. All arrays must have the same length.
+     */
+    public ProcessTable(int[] ids, int[] arrivalTimes, int[] burstTimes, int[] priorities) {
+        this(ids, arrivalTimes, burstTimes, priorities, 0, ids.length);
+        if (arrivalTimes.length != size || burstTimes.length != size || priorities.length != size) {
+            throw new IllegalArgumentException("Column lengths differ");
+        }
+    }
+
+    private ProcessTable(int[] ids, int[] arrivalTimes, int[] burstTimes, int[] priorities, int offset, int size) {
+        this.ids = ids;
+        this.arrivalTimes = arrivalTimes;
+        this.burstTimes = burstTimes;
+        this.priorities = priorities;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    public static ProcessTable fromList(List<Process> processes) {
+        int n = processes.size();
+        int[] ids = new int[n];
+        int[] arrivalTimes = new int[n];
+        int[] burstTimes = new int[n];
+        int[] priorities = new int[n];
+        for (int i = 0; i < n; i++) {
+            Process p = processes.get(i);
+            ids[i] = p.getId();
+            arrivalTimes[i] = p.getArrivalTime();
+            burstTimes[i] = p.getBurstTime();
+            priorities[i] = p.getPriority();
+        }
+        return new ProcessTable(ids, arrivalTimes, burstTimes, priorities);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getId(int index) {
+        return ids[offset + index];
+    }
+
+    public int getArrivalTime(int index) {
+        return arrivalTimes[offset + index];
+    }
+
+    public int getBurstTime(int index) {
+        return burstTimes[offset + index];
+    }
+
+    public int getPriority(int index) {
+        return priorities[offset + index];
+    }
+
+    /** Creates a detached {@link Process} for one row. */
+    public Process get(int index) {
+        return new Process(getId(index), getArrivalTime(index), getBurstTime(index), getPriority(index));
+    }
+
+    /** Rows {@code from} (inclusive) to {@code to} (exclusive) as a view sharing this table's columns. */
+    public ProcessTable view(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("view(" + from + ", " + to + ") of " + size);
+        }
+        return new ProcessTable(ids, arrivalTimes, burstTimes, priorities, offset + from, to - from);
+    }
+
+    /**
+     * Read-only list view for code that still works with {@link Process}
+     * objects. Each {@code get} creates a fresh object; nothing is cached.
+     */
+    public List<Process> asList() {
+        return new RowList();
+    }
+
+    /**
+     * Row indices in ascending arrival order. Equal arrivals keep their
+     * original relative order.
+     */
+    public int[] arrivalOrder() {
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            // High word: arrival (signed), low word: index (tie-breaker)
+            keys[i] = ((long) arrivalTimes[offset + i] << 32) | i;
+        }
+        Arrays.sort(keys);
+
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = (int) keys[i];
+        }
+        return order;
+    }
+
+    /**
+     * 64-bit hash of every row, in order, for recognizing a workload that
+     * was simulated before. Not cryptographic, but any change to a row, the
+     * row order or the size changes it with overwhelming probability.
+     */
+    public long fingerprint() {
+        long hash = 0x9E3779B97F4A7C15L ^ size;
+        for (int i = offset; i < offset + size; i++) {
+            hash = (hash ^ ((long) ids[i] << 32 | (arrivalTimes[i] & 0xFFFFFFFFL))) * 0xBF58476D1CE4E5B9L;
+            hash = (hash ^ ((long) burstTimes[i] << 32 | (priorities[i] & 0xFFFFFFFFL))) * 0x94D049BB133111EBL;
+            hash ^= hash >>> 31;
+        }
+        // SplitMix64 finalizer
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+
+    /** The rows as a {@link ProcessStream}, in {@link #arrivalOrder()}. */
+    public ProcessStream stream() {
+        int[] order = arrivalOrder();
+        return new ProcessStream() {
+            private int position = -1;
+            private int row;
+
+            @Override
+            public boolean next() {
+                if (position + 1 >= order.length) return false;
+                row = order[++position];
+                return true;
+            }
+
+            @Override
+            public int getId() {
+                return ProcessTable.this.getId(row);
+            }
+
+            @Override
+            public int getArrivalTime() {
+                return ProcessTable.this.getArrivalTime(row);
+            }
+
+            @Override
+            public int getBurstTime() {
+                return ProcessTable.this.getBurstTime(row);
+            }
+
+            @Override
+            public int getPriority() {
+                return ProcessTable.this.getPriority(row);
+            }
+        };
+    }
+
+    private class RowList extends AbstractList<Process> implements RandomAccess {
+        @Override
+        public Process get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return ProcessTable.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
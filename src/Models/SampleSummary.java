@@ -0,0 +1,28 @@
+package Models;
+
+/**
+ * Mean of one metric over independent trials, with its sample standard
+ * deviation and a 95% confidence interval for the mean (Student's t).
+ */
+public class SampleSummary {
+    private final long count;
+    private final double mean;
+    private final double standardDeviation;
+    private final double confidenceLow;
+    private final double confidenceHigh;
+
+    public SampleSummary(long count, double mean, double standardDeviation,
+                         double confidenceLow, double confidenceHigh) {
+        this.count = count;
+        this.mean = mean;
+        this.standardDeviation = standardDeviation;
+        this.confidenceLow = confidenceLow;
+        this.confidenceHigh = confidenceHigh;
+    }
+
+    public long getCount() { return count; }
+    public double getMean() { return mean; }
+    public double getStandardDeviation() { return standardDeviation; }
+    public double getConfidenceLow() { return confidenceLow; }
+    public double getConfidenceHigh() { return confidenceHigh; }
+}
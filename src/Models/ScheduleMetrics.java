@@ -0,0 +1,87 @@
+package Models;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Aggregate outcome of one simulation, without the Gantt chart or
+ * per-process rows of a {@link SchedulingResult}. Means are taken over the
+ * whole workload, exactly like {@link SchedulingResult}'s averages.
+ */
+public class ScheduleMetrics {
+    private final int processCount;
+    private final int completedCount;
+    private final MetricSummary waiting;
+    private final MetricSummary turnaround;
+    private final MetricSummary response;
+    private final long makespan;
+    private final long busyTime;
+    private final long contextSwitches;
+    private final int cores;
+    private final Map<String, Double> statistics;
+
+    /**
+     * @param makespan        time from the first arrival to the last completion
+     * @param busyTime        total time the CPU spent running processes
+     * @param contextSwitches number of times a CPU went from one process to another
+     */
+    public ScheduleMetrics(int processCount, int completedCount, MetricSummary waiting,
+                           MetricSummary turnaround, MetricSummary response,
+                           long makespan, long busyTime, long contextSwitches) {
+        this(processCount, completedCount, waiting, turnaround, response, makespan, busyTime, contextSwitches,
+                1, Collections.emptyMap());
+    }
+
+    /**
+     * @param cores      number of CPUs the schedule used
+     * @param statistics algorithm-specific values in reporting order (e.g. MLFQ level residency)
+     */
+    public ScheduleMetrics(int processCount, int completedCount, MetricSummary waiting,
+                           MetricSummary turnaround, MetricSummary response,
+                           long makespan, long busyTime, long contextSwitches, int cores,
+                           Map<String, Double> statistics) {
+        this.processCount = processCount;
+        this.completedCount = completedCount;
+        this.waiting = waiting;
+        this.turnaround = turnaround;
+        this.response = response;
+        this.makespan = makespan;
+        this.busyTime = busyTime;
+        this.contextSwitches = contextSwitches;
+        this.cores = cores;
+        this.statistics = Collections.unmodifiableMap(new LinkedHashMap<>(statistics));
+    }
+
+    public int getProcessCount() { return processCount; }
+    public int getCompletedCount() { return completedCount; }
+
+    /** Turnaround minus burst time. */
+    public MetricSummary getWaiting() { return waiting; }
+
+    /** Completion minus arrival time. */
+    public MetricSummary getTurnaround() { return turnaround; }
+
+    /** First start minus arrival time. */
+    public MetricSummary getResponse() { return response; }
+
+    public double getAverageWaitingTime() { return waiting.getMean(); }
+    public double getAverageTurnaroundTime() { return turnaround.getMean(); }
+
+    public long getMakespan() { return makespan; }
+    public long getBusyTime() { return busyTime; }
+    public long getContextSwitches() { return contextSwitches; }
+    public Map<String, Double> getStatistics() { return statistics; }
+
+    public int getCores() { return cores; }
+
+    /** Fraction of the makespan during which the CPUs were busy, averaged over all cores. */
+    public double getUtilization() {
+        return makespan > 0 ? (double) busyTime / ((double) makespan * cores) : 0;
+    }
+
+    /** Completed processes per time unit of makespan. */
+    public double getThroughput() {
+        return makespan > 0 ? (double) completedCount / makespan : 0;
+    }
+}
@@ -1,12 +1,16 @@
 package Models;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class SchedulingResult {
     private double averageWaitingTime;
     private double averageTurnaroundTime;
     private List<GanttBlock> ganttChart;
     private List<ProcessResult> processResults;
+    private Map<String, Double> statistics;
 
     public SchedulingResult(double avgWaiting, double avgTurnaround, 
                            List<GanttBlock> gantt, List<ProcessResult> results) {
@@ -14,6 +18,16 @@ public class SchedulingResult {
         this.averageTurnaroundTime = avgTurnaround;
         this.ganttChart = gantt;
         this.processResults = results;
+        this.statistics = Collections.emptyMap();
+    }
+
+    /**
+     * @param statistics algorithm-specific values in reporting order (e.g. MLFQ level residency)
+     */
+    public SchedulingResult(double avgWaiting, double avgTurnaround,
+                           List<GanttBlock> gantt, List<ProcessResult> results, Map<String, Double> statistics) {
+        this(avgWaiting, avgTurnaround, gantt, results);
+        this.statistics = Collections.unmodifiableMap(new LinkedHashMap<>(statistics));
     }
 
     // Getters
@@ -21,4 +35,5 @@ public class SchedulingResult {
     public double getAverageTurnaroundTime() { return averageTurnaroundTime; }
     public List<GanttBlock> getGanttChart() { return ganttChart; }
     public List<ProcessResult> getProcessResults() { return processResults; }
+    public Map<String, Double> getStatistics() { return statistics; }
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+package Utils;
+
+import Models.ScheduleMetrics;
+import Models.SchedulingResult;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Results of every registered algorithm on one workload, ranked by average
+ * waiting time. Produced once by {@link AlgorithmSelector#rank} and reused for
+ * best/worst selection, the comparison table and the PDF report.
+ * {@link AlgorithmSelector#rankMetrics} produces a lighter ranking that holds
+ * only {@link ScheduleMetrics}.
+ */
+public class AlgorithmRanking {
+    private final Map<String, SchedulingResult> results;
+    private final Map<String, ScheduleMetrics> metrics;
+    private final Map<String, Double> averageWaiting;
+    private final List<String> ranking;
+
+    /**
+     * @param results results keyed by algorithm name, in registry order
+     */
+    public AlgorithmRanking(Map<String, SchedulingResult> results) {
+        this(results, Collections.emptyMap(), averages(results, SchedulingResult::getAverageWaitingTime));
+    }
+
+    /**
+     * @param metrics metrics keyed by algorithm name, in registry order
+     */
+    public static AlgorithmRanking ofMetrics(Map<String, ScheduleMetrics> metrics) {
+        return new AlgorithmRanking(Collections.emptyMap(), metrics,
+                averages(metrics, ScheduleMetrics::getAverageWaitingTime));
+    }
+
+    private AlgorithmRanking(Map<String, SchedulingResult> results, Map<String, ScheduleMetrics> metrics,
+                             Map<String, Double> averageWaiting) {
+        this.results = Collections.unmodifiableMap(new LinkedHashMap<>(results));
+        this.metrics = Collections.unmodifiableMap(new LinkedHashMap<>(metrics));
+        this.averageWaiting = averageWaiting;
+
+        // Stable sort: algorithms with equal waiting times keep registry order
+        List<String> names = new ArrayList<>(averageWaiting.keySet());
+        names.sort((a, b) -> Double.compare(averageWaiting.get(a), averageWaiting.get(b)));
+        this.ranking = Collections.unmodifiableList(names);
+    }
+
+    private static <T> Map<String, Double> averages(Map<String, T> values, ToDoubleFunction<T> average) {
+        Map<String, Double> averages = new LinkedHashMap<>();
+        for (Map.Entry<String, T> entry : values.entrySet()) {
+            averages.put(entry.getKey(), average.applyAsDouble(entry.getValue()));
+        }
+        return averages;
+    }
+
+    /** All results keyed by algorithm name, in registry order; empty for a metrics-only ranking. */
+    public Map<String, SchedulingResult> getResults() {
+        return results;
+    }
+
+    public SchedulingResult getResult(String algorithm) {
+        return results.get(algorithm);
+    }
+
+    /** All metrics keyed by algorithm name, in registry order; empty unless built by {@link #ofMetrics}. */
+    public Map<String, ScheduleMetrics> getMetrics() {
+        return metrics;
+    }
+
+    public ScheduleMetrics getMetrics(String algorithm) {
+        return metrics.get(algorithm);
+    }
+
+    /** Algorithm names from lowest to highest average waiting time. */
+    public List<String> getRanking() {
+        return ranking;
+    }
+
+    /** Lowest average waiting time; the first registered algorithm wins ties. */
+    public String getBest() {
+        return ranking.isEmpty() ? "" : ranking.get(0);
+    }
+
+    /** Highest average waiting time; the first registered algorithm wins ties. */
+    public String getWorst() {
+        if (ranking.isEmpty()) return "";
+        double worst = averageWaiting.get(ranking.get(ranking.size() - 1));
+        for (String name : ranking) {
+            if (averageWaiting.get(name) == worst) {
+                return name;
+            }
+        }
+        return ranking.get(ranking.size() - 1);
+    }
+}
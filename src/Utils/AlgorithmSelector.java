@@ -1,84 +1,137 @@
 package Utils;
 
-import Algorithms.FCFS;
-import Algorithms.SJF;
-import Algorithms.PriorityScheduling;
-import Algorithms.RoundRobin;
+import Algorithms.AlgorithmRegistry;
+import Algorithms.ProgressSink;
+import Algorithms.ResultCollector;
+import Algorithms.SchedulerConfig;
+import Algorithms.SchedulingAlgorithm;
 import Models.Process;
+import Models.ProcessTable;
+import Models.ScheduleMetrics;
 import Models.SchedulingResult;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
 
 public class AlgorithmSelector {
 
-    public static String selectBestAlgorithm(List<Process> processes) {
-        double bestScore = Double.MAX_VALUE;
-        String bestAlgorithm = "";
-
-        // Run FCFS
-        SchedulingResult fcfsResult = FCFS.schedule(processes);
-        if (fcfsResult.getAverageWaitingTime() < bestScore) {
-            bestScore = fcfsResult.getAverageWaitingTime();
-            bestAlgorithm = "FCFS";
-        }
+    /**
+     * Runs every registered algorithm once on the same read-only workload.
+     * The simulations run concurrently on the common fork/join pool.
+     */
+    public static AlgorithmRanking rank(ProcessTable processes, SchedulerConfig config) {
+        return rank(processes, config, null);
+    }
+
+    /**
+     * Like {@link #rank(ProcessTable, SchedulerConfig)}, reporting progress as
+     * processes complete. {@code progress} receives completion counts (out of
+     * {@code processes.size()} per algorithm) from several threads at once;
+     * it may throw to abort the ranking.
+     */
+    public static AlgorithmRanking rank(ProcessTable processes, SchedulerConfig config, IntConsumer progress) {
+        return rank(processes, config, progress, null);
+    }
 
-        // Run SJF
-        SchedulingResult sjfResult = SJF.schedule(processes);
-        if (sjfResult.getAverageWaitingTime() < bestScore) {
-            bestScore = sjfResult.getAverageWaitingTime();
-            bestAlgorithm = "SJF";
+    /**
+     * Like {@link #rank(ProcessTable, SchedulerConfig, IntConsumer)}, taking
+     * the results it can from {@code cache} (may be null) and caching the
+     * ones it computes. Cached algorithms count as completed at once.
+     */
+    public static AlgorithmRanking rank(ProcessTable processes, SchedulerConfig config, IntConsumer progress,
+                                        ResultCache cache) {
+        List<SchedulingAlgorithm> algorithms = AlgorithmRegistry.getAll();
+        int step = Math.max(1, processes.size() / 100);
+        long fingerprint = cache != null ? processes.fingerprint() : 0;
+        List<SchedulingResult> results = algorithms.parallelStream()
+                .map(algorithm -> {
+                    if (cache == null) {
+                        return simulate(algorithm, processes, config, step, progress);
+                    }
+                    SchedulingResult cached = cache.get(algorithm, config, fingerprint);
+                    if (cached != null) {
+                        if (progress != null) progress.accept(processes.size());
+                        return cached;
+                    }
+                    SchedulingResult result = simulate(algorithm, processes, config, step, progress);
+                    cache.put(algorithm, config, fingerprint, result);
+                    return result;
+                })
+                .collect(Collectors.toList());
+
+        Map<String, SchedulingResult> byName = new LinkedHashMap<>();
+        for (int i = 0; i < algorithms.size(); i++) {
+            byName.put(algorithms.get(i).getName(), results.get(i));
         }
+        return new AlgorithmRanking(byName);
+    }
 
-        // Run Priority
-        SchedulingResult prioResult = PriorityScheduling.schedule(processes);
-        if (prioResult.getAverageWaitingTime() < bestScore) {
-            bestScore = prioResult.getAverageWaitingTime();
-            bestAlgorithm = "Priority";
+    private static SchedulingResult simulate(SchedulingAlgorithm algorithm, ProcessTable processes,
+                                             SchedulerConfig config, int step, IntConsumer progress) {
+        if (progress == null) {
+            return algorithm.schedule(processes, config);
         }
+        ResultCollector collector = new ResultCollector(processes.size());
+        ProgressSink sink = new ProgressSink(collector, step, progress);
+        algorithm.schedule(processes, config, sink);
+        sink.flush();
+        return collector.toResult();
+    }
 
-     // Run Round Robin (use quantum = 4)
-        SchedulingResult rrResult = RoundRobin.schedule(processes, 4);
-        if (rrResult.getAverageWaitingTime() < bestScore) {
-            bestScore = rrResult.getAverageWaitingTime();
-            bestAlgorithm = "Round Robin";
+    /**
+     * Metrics-only variant of {@link #rank(ProcessTable, SchedulerConfig)}:
+     * no Gantt charts or per-process results are built, which is all that
+     * best/worst selection needs. It produces nothing a {@link ResultCache}
+     * can hold, so it always simulates.
+     */
+    public static AlgorithmRanking rankMetrics(ProcessTable processes, SchedulerConfig config) {
+        List<SchedulingAlgorithm> algorithms = AlgorithmRegistry.getAll();
+        List<ScheduleMetrics> metrics = algorithms.parallelStream()
+                .map(algorithm -> algorithm.measure(processes, config))
+                .collect(Collectors.toList());
+
+        Map<String, ScheduleMetrics> byName = new LinkedHashMap<>();
+        for (int i = 0; i < algorithms.size(); i++) {
+            byName.put(algorithms.get(i).getName(), metrics.get(i));
         }
+        return AlgorithmRanking.ofMetrics(byName);
+    }
 
+    public static String selectBestAlgorithm(List<Process> processes, SchedulerConfig config) {
+        return selectBestAlgorithm(processes, config, null);
+    }
 
-        return bestAlgorithm;
+    public static String selectWorstAlgorithm(List<Process> processes, SchedulerConfig config) {
+        return selectWorstAlgorithm(processes, config, null);
     }
 
-    public static String selectWorstAlgorithm(List<Process> processes) {
-        double worstScore = Double.MIN_VALUE;
-        String worstAlgorithm = "";
-
-        // Run FCFS
-        SchedulingResult fcfsResult = FCFS.schedule(processes);
-        if (fcfsResult.getAverageWaitingTime() > worstScore) {
-            worstScore = fcfsResult.getAverageWaitingTime();
-            worstAlgorithm = "FCFS";
-        }
+    /**
+     * With a {@code cache} (may be null), full results are taken from it and
+     * cached, as by {@link #rank}, so repeated selections on the same
+     * workload simulate nothing. Without one, only metrics are computed.
+     */
+    public static String selectBestAlgorithm(List<Process> processes, SchedulerConfig config, ResultCache cache) {
+        return select(processes, config, cache).getBest();
+    }
 
-        // Run SJF
-        SchedulingResult sjfResult = SJF.schedule(processes);
-        if (sjfResult.getAverageWaitingTime() > worstScore) {
-            worstScore = sjfResult.getAverageWaitingTime();
-            worstAlgorithm = "SJF";
-        }
+    public static String selectWorstAlgorithm(List<Process> processes, SchedulerConfig config, ResultCache cache) {
+        return select(processes, config, cache).getWorst();
+    }
 
-        // Run Priority
-        SchedulingResult prioResult = PriorityScheduling.schedule(processes);
-        if (prioResult.getAverageWaitingTime() > worstScore) {
-            worstScore = prioResult.getAverageWaitingTime();
-            worstAlgorithm = "Priority";
-        }
+    private static AlgorithmRanking select(List<Process> processes, SchedulerConfig config, ResultCache cache) {
+        ProcessTable table = ProcessTable.fromList(processes);
+        return cache == null ? rankMetrics(table, config) : rank(table, config, null, cache);
+    }
 
-        // Run Round Robin
-        SchedulingResult rrResult = RoundRobin.schedule(processes, 4);
-        if (rrResult.getAverageWaitingTime() > worstScore) {
-            worstScore = rrResult.getAverageWaitingTime();
-            worstAlgorithm = "Round Robin";
-        }
+    // Round Robin uses the default quantum = 4
+    public static String selectBestAlgorithm(List<Process> processes) {
+        return selectBestAlgorithm(processes, new SchedulerConfig());
+    }
 
-        return worstAlgorithm;
+    public static String selectWorstAlgorithm(List<Process> processes) {
+        return selectWorstAlgorithm(processes, new SchedulerConfig());
     }
 }
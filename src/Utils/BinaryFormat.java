@@ -0,0 +1,404 @@
+package Utils;
+
+import Models.GanttBlock;
+import Models.GanttTimeline;
+import Models.ProcessResult;
+import Models.ProcessTable;
+import Models.SchedulingResult;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Versioned binary files for workloads ({@code .psw}) and computed schedules
+ * ({@code .pss}).
+ *
+ * Files are little-endian: a 4-byte magic, a 2-byte format version, a 2-byte
+ * section count and one 8-byte length per section, followed by the sections.
+ * Every integer column is its own section of LEB128 varints of zigzag-encoded
+ * values. Columns that tend to increase (ids, arrivals, slice starts) store
+ * the difference to the previous row, so typical values take one or two bytes.
+ *
+ * Sections are memory-mapped straight from the {@link FileChannel} and the
+ * columns decoded in parallel from the mapped pages into primitive arrays;
+ * nothing is copied onto the heap first.
+ */
+public class BinaryFormat {
+    public static final String WORKLOAD_EXTENSION = "psw";
+    public static final String SCHEDULE_EXTENSION = "pss";
+    static final int VERSION = 1;
+
+    private static final byte[] WORKLOAD_MAGIC = {'P', 'S', 'W', 'L'};
+    private static final byte[] SCHEDULE_MAGIC = {'P', 'S', 'S', 'C'};
+    private static final int WORKLOAD_SECTIONS = 5; // count, ids, arrivals, bursts, priorities
+    // Metadata, slice start/length/pid/core, result pid/arrival/burst/response/remainder
+    private static final int SCHEDULE_SECTIONS = 10;
+
+    /** A schedule read back from a file, with the name of the algorithm that produced it. */
+    public static class Schedule {
+        private final String algorithm;
+        private final SchedulingResult result;
+
+        Schedule(String algorithm, SchedulingResult result) {
+            this.algorithm = algorithm;
+            this.result = result;
+        }
+
+        public String getAlgorithm() { return algorithm; }
+        public SchedulingResult getResult() { return result; }
+    }
+
+    public static void writeWorkload(ProcessTable table, Path path) throws IOException {
+        int count = table.size();
+        ByteSink header = new ByteSink(8);
+        header.varint(count);
+        ByteSink[] columns = encodeAll(List.of(
+                () -> encode(count, table::getId, true),
+                () -> encode(count, table::getArrivalTime, true),
+                () -> encode(count, table::getBurstTime, false),
+                () -> encode(count, table::getPriority, false)));
+        writeSections(path, WORKLOAD_MAGIC, header, columns[0], columns[1], columns[2], columns[3]);
+    }
+
+    /**
+     * @throws IOException if the file cannot be read, is not a workload file,
+     *                     has a newer version or is corrupt
+     */
+    public static ProcessTable readWorkload(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer[] sections = mapSections(channel, WORKLOAD_MAGIC, WORKLOAD_SECTIONS, path);
+            try {
+                ByteSource header = new ByteSource(sections[0]);
+                int count = header.count();
+                int[][] columns = decodeAll(s -> decode(sections[s], count, s <= 2), WORKLOAD_SECTIONS, path);
+                return new ProcessTable(columns[0], columns[1], columns[2], columns[3]);
+            } catch (RuntimeException e) {
+                throw corrupt(path, e);
+            }
+        }
+    }
+
+    /**
+     * Saves the Gantt slices, per-process results, averages and statistics of
+     * a schedule. Blocks with a free-form label keep only their times.
+     */
+    public static void writeSchedule(SchedulingResult result, String algorithm, Path path) throws IOException {
+        List<GanttBlock> gantt = result.getGanttChart();
+        List<ProcessResult> rows = result.getProcessResults();
+        int slices = gantt.size();
+        int count = rows.size();
+        GanttTimeline timeline = gantt instanceof GanttTimeline ? (GanttTimeline) gantt : null;
+        IntUnaryOperator start = timeline != null ? timeline::getStartTime : i -> gantt.get(i).getStartTime();
+        IntUnaryOperator end = timeline != null ? timeline::getEndTime : i -> gantt.get(i).getEndTime();
+        IntUnaryOperator pid = timeline != null ? timeline::getPid : i -> gantt.get(i).getPid();
+        IntUnaryOperator core = timeline != null ? timeline::getCore : i -> gantt.get(i).getCore();
+
+        ByteSink header = new ByteSink(64);
+        header.string(algorithm);
+        header.float64(result.getAverageWaitingTime());
+        header.float64(result.getAverageTurnaroundTime());
+        header.varint(slices);
+        header.varint(count);
+        header.varint(result.getStatistics().size());
+        for (Map.Entry<String, Double> statistic : result.getStatistics().entrySet()) {
+            header.string(statistic.getKey());
+            header.float64(statistic.getValue());
+        }
+
+        ByteSink[] columns = encodeAll(List.of(
+                () -> encode(slices, start, true),
+                () -> encode(slices, i -> end.applyAsInt(i) - start.applyAsInt(i), false),
+                () -> encode(slices, pid, false),
+                () -> encode(slices, core, false),
+                () -> encode(count, i -> rows.get(i).getPid(), true),
+                () -> encode(count, i -> rows.get(i).getArrivalTime(), true),
+                () -> encode(count, i -> rows.get(i).getBurstTime(), false),
+                () -> encode(count, i -> rows.get(i).getStartTime() - rows.get(i).getArrivalTime(), false),
+                () -> encode(count, i -> rows.get(i).getEndTime() - rows.get(i).getStartTime(), false)));
+        ByteSink[] sections = new ByteSink[SCHEDULE_SECTIONS];
+        sections[0] = header;
+        System.arraycopy(columns, 0, sections, 1, columns.length);
+        writeSections(path, SCHEDULE_MAGIC, sections);
+    }
+
+    /**
+     * @throws IOException if the file cannot be read, is not a schedule file,
+     *                     has a newer version or is corrupt
+     */
+    public static Schedule readSchedule(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer[] sections = mapSections(channel, SCHEDULE_MAGIC, SCHEDULE_SECTIONS, path);
+            try {
+                ByteSource header = new ByteSource(sections[0]);
+                String algorithm = header.string();
+                double averageWaiting = header.float64();
+                double averageTurnaround = header.float64();
+                int slices = header.count();
+                int count = header.count();
+                int statisticCount = header.count();
+                Map<String, Double> statistics = new LinkedHashMap<>();
+                for (int i = 0; i < statisticCount; i++) {
+                    statistics.put(header.string(), header.float64());
+                }
+
+                int[][] columns = decodeAll(s -> s <= 4
+                        ? decode(sections[s], slices, s == 1)
+                        : decode(sections[s], count, s == 5 || s == 6), SCHEDULE_SECTIONS, path);
+
+                GanttTimeline gantt = new GanttTimeline(slices);
+                for (int i = 0; i < slices; i++) {
+                    gantt.append(columns[0][i], columns[0][i] + columns[1][i], columns[2][i], columns[3][i]);
+                }
+                List<ProcessResult> results = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    int arrival = columns[5][i];
+                    int startTime = arrival + columns[7][i];
+                    results.add(new ProcessResult(columns[4][i], arrival, columns[6][i],
+                            startTime, startTime + columns[8][i]));
+                }
+                return new Schedule(algorithm, new SchedulingResult(averageWaiting, averageTurnaround,
+                        gantt, results, statistics));
+            } catch (RuntimeException e) {
+                throw corrupt(path, e);
+            }
+        }
+    }
+
+    private static ByteSink[] encodeAll(List<Supplier<ByteSink>> columns) {
+        return columns.parallelStream().map(Supplier::get).toArray(ByteSink[]::new);
+    }
+
+    private static ByteSink encode(int count, IntUnaryOperator column, boolean delta) {
+        ByteSink sink = new ByteSink(count + (count >> 1) + 16);
+        int previous = 0;
+        for (int i = 0; i < count; i++) {
+            int value = column.applyAsInt(i);
+            // Differences wrap around like the decoder's sums, so any int survives
+            sink.varint(delta ? zigzag(value - previous) : zigzag(value));
+            previous = value;
+        }
+        return sink;
+    }
+
+    /**
+     * Decodes sections 1 to {@code sections - 1} in parallel. A failing column
+     * yields null rather than throwing, so that no decoder is still reading
+     * the mapping when the error surfaces.
+     */
+    private static int[][] decodeAll(IntFunction<int[]> column, int sections, Path path) throws IOException {
+        int[][] columns = IntStream.range(1, sections).parallel()
+                .mapToObj(s -> {
+                    try {
+                        return column.apply(s);
+                    } catch (RuntimeException e) {
+                        return null;
+                    }
+                })
+                .toArray(int[][]::new);
+        for (int[] values : columns) {
+            if (values == null) throw corrupt(path, null);
+        }
+        return columns;
+    }
+
+    private static int[] decode(ByteBuffer section, int count, boolean delta) {
+        if (count > section.limit()) {
+            throw new IllegalStateException("Column shorter than its row count"); // one byte per value at least
+        }
+        ByteSource source = new ByteSource(section);
+        int[] values = new int[count];
+        int previous = 0;
+        for (int i = 0; i < count; i++) {
+            int value = unzigzag(source.varint());
+            previous = delta ? previous + value : value;
+            values[i] = previous;
+        }
+        if (source.position != section.limit()) {
+            throw new IllegalStateException("Trailing bytes in column");
+        }
+        return values;
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeSections(Path path, byte[] magic, ByteSink... sections) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(8 + 8 * sections.length).order(ByteOrder.LITTLE_ENDIAN);
+        header.put(magic).putShort((short) VERSION).putShort((short) sections.length);
+        for (ByteSink section : sections) {
+            header.putLong(section.size);
+        }
+        header.flip();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, header);
+            for (ByteSink section : sections) {
+                writeFully(channel, ByteBuffer.wrap(section.bytes, 0, section.size));
+            }
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    // Maps every section separately, so only a single section is limited to 2 GB
+    private static ByteBuffer[] mapSections(FileChannel channel, byte[] magic, int expected, Path path)
+            throws IOException {
+        long size = channel.size();
+        ByteBuffer header = readAt(channel, 0, 8, path);
+        byte[] found = new byte[4];
+        header.get(found);
+        if (!Arrays.equals(found, magic)) {
+            throw new IOException(path.getFileName() + " is not a " + kind(magic) + " file");
+        }
+        int version = header.getShort() & 0xFFFF;
+        if (version > VERSION) {
+            throw new IOException(path.getFileName() + " has format version " + version
+                    + "; this version reads up to " + VERSION);
+        }
+        int count = header.getShort() & 0xFFFF;
+        if (count < expected) {
+            throw corrupt(path, null);
+        }
+
+        // Sections beyond the expected ones are left for later format versions
+        ByteBuffer lengths = readAt(channel, 8, 8 * count, path);
+        ByteBuffer[] sections = new ByteBuffer[expected];
+        long offset = 8 + 8L * count;
+        for (int s = 0; s < expected; s++) {
+            long length = lengths.getLong();
+            if (length < 0 || length > Integer.MAX_VALUE || offset + length > size) {
+                throw corrupt(path, null);
+            }
+            sections[s] = channel.map(FileChannel.MapMode.READ_ONLY, offset, length)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            offset += length;
+        }
+        return sections;
+    }
+
+    private static ByteBuffer readAt(FileChannel channel, long position, int length, Path path) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw corrupt(path, null);
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static String kind(byte[] magic) {
+        return magic == WORKLOAD_MAGIC ? "binary workload" : "binary schedule";
+    }
+
+    private static IOException corrupt(Path path, RuntimeException cause) {
+        return new IOException(path.getFileName() + " is truncated or corrupt", cause);
+    }
+
+    /** Growable little-endian byte array. */
+    private static class ByteSink {
+        byte[] bytes;
+        int size;
+
+        ByteSink(int capacity) {
+            bytes = new byte[capacity];
+        }
+
+        void varint(int value) {
+            ensure(5);
+            while ((value & ~0x7F) != 0) {
+                bytes[size++] = (byte) (value | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        void float64(double value) {
+            ensure(8);
+            long bits = Double.doubleToLongBits(value);
+            for (int i = 0; i < 8; i++) {
+                bytes[size++] = (byte) (bits >>> (8 * i));
+            }
+        }
+
+        void string(String value) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            varint(utf8.length);
+            ensure(utf8.length);
+            System.arraycopy(utf8, 0, bytes, size, utf8.length);
+            size += utf8.length;
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(size + extra, bytes.length + (bytes.length >> 1)));
+            }
+        }
+    }
+
+    /** Reads from a mapped section; running past its end throws. */
+    private static class ByteSource {
+        final ByteBuffer buffer;
+        int position;
+
+        ByteSource(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        int varint() {
+            int b = buffer.get(position++);
+            if (b >= 0) return b;
+            int value = b & 0x7F;
+            for (int shift = 7; shift <= 28; shift += 7) {
+                b = buffer.get(position++);
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) return value;
+            }
+            throw new IllegalStateException("Varint longer than 5 bytes");
+        }
+
+        int count() {
+            int count = varint();
+            if (count < 0) throw new IllegalStateException("Negative count");
+            return count;
+        }
+
+        double float64() {
+            double value = buffer.getDouble(position);
+            position += 8;
+            return value;
+        }
+
+        String string() {
+            int length = count();
+            if (length > buffer.limit() - position) throw new IllegalStateException("String past section end");
+            byte[] utf8 = new byte[length];
+            buffer.get(position, utf8);
+            position += length;
+            return new String(utf8, StandardCharsets.UTF_8);
+        }
+    }
+}
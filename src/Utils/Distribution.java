@@ -0,0 +1,132 @@
+package Utils;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Integer-valued random distribution for synthetic workloads. Continuous
+ * distributions are rounded to the nearest integer and capped at
+ * {@link Integer#MAX_VALUE}.
+ */
+public interface Distribution {
+
+    int sample(SplittableRandom random);
+
+    static Distribution constant(int value) {
+        return random -> value;
+    }
+
+    /** Uniform over {@code min..max}, inclusive. */
+    static Distribution uniform(int min, int max) {
+        if (max < min) {
+            throw new IllegalArgumentException("Empty range " + min + ".." + max);
+        }
+        return random -> min + (int) random.nextLong((long) max - min + 1);
+    }
+
+    /** Exponential with the given mean; as inter-arrival gaps this is a Poisson process. */
+    static Distribution exponential(double mean) {
+        requirePositive(mean, "Mean");
+        return random -> round(-mean * Math.log(1 - random.nextDouble()));
+    }
+
+    /**
+     * Pareto with minimum {@code scale} and tail index {@code shape}: heavy
+     * tailed, with infinite variance for shape up to 2.
+     */
+    static Distribution pareto(double scale, double shape) {
+        requirePositive(scale, "Scale");
+        requirePositive(shape, "Shape");
+        return random -> round(scale / Math.pow(1 - random.nextDouble(), 1 / shape));
+    }
+
+    /** Log-normal with the given median and standard deviation of the log. */
+    static Distribution lognormal(double median, double sigma) {
+        requirePositive(median, "Median");
+        requirePositive(sigma, "Sigma");
+        return random -> round(median * Math.exp(sigma * gaussian(random)));
+    }
+
+    /**
+     * Mixture of two populations, e.g. short interactive and long batch jobs:
+     * {@code first} with probability {@code firstShare}, otherwise {@code second}.
+     */
+    static Distribution bimodal(double firstShare, Distribution first, Distribution second) {
+        if (!(firstShare >= 0 && firstShare <= 1)) {
+            throw new IllegalArgumentException("Share must be between 0 and 1: " + firstShare);
+        }
+        return random -> random.nextDouble() < firstShare ? first.sample(random) : second.sample(random);
+    }
+
+    /**
+     * Parses a command-line spec: {@code constant:v}, {@code uniform:min:max},
+     * {@code exponential:mean}, {@code pareto:scale:shape},
+     * {@code lognormal:median:sigma} or {@code bimodal:share:spec+spec}.
+     *
+     * @throws IllegalArgumentException if the spec is malformed
+     */
+    static Distribution parse(String spec) {
+        String[] parts = spec.split(":", 2);
+        String name = parts[0].trim().toLowerCase(Locale.ROOT);
+        String arguments = parts.length > 1 ? parts[1] : "";
+        if (name.equals("bimodal")) {
+            String[] share = arguments.split(":", 2);
+            String[] modes = share.length > 1 ? share[1].split("\\+", 2) : new String[0];
+            if (modes.length != 2) {
+                throw new IllegalArgumentException("Expected bimodal:share:spec+spec: " + spec);
+            }
+            return bimodal(parseNumber(share[0], spec), parse(modes[0]), parse(modes[1]));
+        }
+
+        String[] values = arguments.isEmpty() ? new String[0] : arguments.split(":");
+        switch (name) {
+            case "constant":
+                requireArguments(values, 1, spec);
+                return constant((int) parseNumber(values[0], spec));
+            case "uniform":
+                requireArguments(values, 2, spec);
+                return uniform((int) parseNumber(values[0], spec), (int) parseNumber(values[1], spec));
+            case "exponential":
+                requireArguments(values, 1, spec);
+                return exponential(parseNumber(values[0], spec));
+            case "pareto":
+                requireArguments(values, 2, spec);
+                return pareto(parseNumber(values[0], spec), parseNumber(values[1], spec));
+            case "lognormal":
+                requireArguments(values, 2, spec);
+                return lognormal(parseNumber(values[0], spec), parseNumber(values[1], spec));
+            default:
+                throw new IllegalArgumentException("Unknown distribution \"" + parts[0] + "\"");
+        }
+    }
+
+    private static void requireArguments(String[] values, int count, String spec) {
+        if (values.length != count) {
+            throw new IllegalArgumentException("Expected " + count + " parameter(s): " + spec);
+        }
+    }
+
+    private static double parseNumber(String value, String spec) {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number \"" + value + "\" in " + spec);
+        }
+    }
+
+    private static void requirePositive(double value, String name) {
+        if (!(value > 0) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException(name + " must be positive: " + value);
+        }
+    }
+
+    private static int round(double value) {
+        return (int) Math.min(Integer.MAX_VALUE, Math.round(value));
+    }
+
+    // Box-Muller; one of the pair is discarded to keep the distribution stateless
+    private static double gaussian(SplittableRandom random) {
+        double u = 1 - random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+}
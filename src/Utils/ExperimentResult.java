@@ -0,0 +1,89 @@
+package Utils;
+
+import Models.SampleSummary;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregates of an {@link ExperimentRunner} run: for every algorithm, the
+ * mean over all trials of its per-trial average waiting, turnaround and
+ * response times, and its win rate, the share of trials in which it had
+ * the least average waiting time (ties share the win).
+ */
+public class ExperimentResult {
+    private final int trials;
+    private final int processCount;
+    private final long seed;
+    private final Map<String, AlgorithmStatistics> statistics;
+
+    /** Aggregates of one algorithm. */
+    public static class AlgorithmStatistics {
+        private final SampleSummary waiting;
+        private final SampleSummary turnaround;
+        private final SampleSummary response;
+        private final double winRate;
+
+        public AlgorithmStatistics(SampleSummary waiting, SampleSummary turnaround,
+                                   SampleSummary response, double winRate) {
+            this.waiting = waiting;
+            this.turnaround = turnaround;
+            this.response = response;
+            this.winRate = winRate;
+        }
+
+        public SampleSummary getWaiting() { return waiting; }
+        public SampleSummary getTurnaround() { return turnaround; }
+        public SampleSummary getResponse() { return response; }
+        public double getWinRate() { return winRate; }
+    }
+
+    /**
+     * @param statistics aggregates keyed by algorithm name, in registry order
+     */
+    public ExperimentResult(int trials, int processCount, long seed, Map<String, AlgorithmStatistics> statistics) {
+        this.trials = trials;
+        this.processCount = processCount;
+        this.seed = seed;
+        this.statistics = Collections.unmodifiableMap(new LinkedHashMap<>(statistics));
+    }
+
+    public int getTrials() {
+        return trials;
+    }
+
+    public int getProcessCount() {
+        return processCount;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public List<String> getAlgorithms() {
+        return new ArrayList<>(statistics.keySet());
+    }
+
+    public Map<String, AlgorithmStatistics> getStatistics() {
+        return statistics;
+    }
+
+    public AlgorithmStatistics getStatistics(String algorithm) {
+        return statistics.get(algorithm);
+    }
+
+    /** Algorithm with the least mean waiting time; ties keep registry order. */
+    public String getBest() {
+        String best = null;
+        for (Map.Entry<String, AlgorithmStatistics> entry : statistics.entrySet()) {
+            if (best == null || entry.getValue().getWaiting().getMean()
+                    < statistics.get(best).getWaiting().getMean()) {
+                best = entry.getKey();
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,155 @@
+package Utils;
+
+import Algorithms.ScheduleSink;
+import Algorithms.SchedulerConfig;
+import Algorithms.SchedulingAlgorithm;
+import Models.ProcessTable;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Monte Carlo comparison: every algorithm is run on each of many independent
+ * random workloads from {@link ProcessGenerator}, and the per-trial averages
+ * are aggregated into means, confidence intervals and win rates.
+ *
+ * The trials are split into at most {@link #MAX_BLOCKS} blocks that run
+ * concurrently on the common fork/join pool. Each block draws its workloads
+ * from its own {@link SplittableRandom}, seeded from the experiment seed,
+ * and accumulates its own statistics; the blocks are then merged in order.
+ * The same seed therefore gives the same result on any number of cores.
+ * Only one workload per block and the running statistics are held in memory.
+ */
+public class ExperimentRunner {
+    static final int MAX_BLOCKS = 1024;
+
+    /**
+     * @param progress receives counts of completed trials (out of {@code trials})
+     *                 from several threads at once; may be null, and may throw to abort
+     * @throws IllegalArgumentException if there are no trials, processes or algorithms
+     */
+    public static ExperimentResult run(List<SchedulingAlgorithm> algorithms, SchedulerConfig config,
+                                       int trials, int processCount, long seed, IntConsumer progress) {
+        if (trials < 1 || processCount < 1 || algorithms.isEmpty()) {
+            throw new IllegalArgumentException("An experiment needs at least one trial, process and algorithm");
+        }
+        int blockCount = Math.min(trials, MAX_BLOCKS);
+        SplittableRandom root = new SplittableRandom(seed);
+        long[] blockSeeds = new long[blockCount];
+        for (int block = 0; block < blockCount; block++) {
+            blockSeeds[block] = root.nextLong();
+        }
+
+        Block[] blocks = IntStream.range(0, blockCount).parallel()
+                .mapToObj(block -> {
+                    // Trials are dealt out evenly; the first blocks take one extra
+                    int size = trials / blockCount + (block < trials % blockCount ? 1 : 0);
+                    return runBlock(algorithms, config, size, processCount,
+                            new SplittableRandom(blockSeeds[block]), progress);
+                })
+                .toArray(Block[]::new);
+
+        Block total = new Block(algorithms.size());
+        for (Block block : blocks) {
+            total.merge(block);
+        }
+
+        Map<String, ExperimentResult.AlgorithmStatistics> statistics = new LinkedHashMap<>();
+        for (int a = 0; a < algorithms.size(); a++) {
+            statistics.put(algorithms.get(a).getName(), new ExperimentResult.AlgorithmStatistics(
+                    total.waiting[a].summarize(), total.turnaround[a].summarize(),
+                    total.response[a].summarize(), total.wins[a] / trials));
+        }
+        return new ExperimentResult(trials, processCount, seed, statistics);
+    }
+
+    private static Block runBlock(List<SchedulingAlgorithm> algorithms, SchedulerConfig config, int trials,
+                                  int processCount, SplittableRandom random, IntConsumer progress) {
+        int count = algorithms.size();
+        Block block = new Block(count);
+        TrialSink sink = new TrialSink();
+        double[] waiting = new double[count];
+        for (int trial = 0; trial < trials; trial++) {
+            ProcessTable workload = ProcessGenerator.generate(processCount, random.split());
+            double least = Double.POSITIVE_INFINITY;
+            for (int a = 0; a < count; a++) {
+                sink.reset();
+                algorithms.get(a).schedule(workload, config, sink);
+                waiting[a] = sink.waiting / processCount;
+                least = Math.min(least, waiting[a]);
+                block.waiting[a].add(waiting[a]);
+                block.turnaround[a].add(sink.turnaround / processCount);
+                block.response[a].add(sink.response / processCount);
+            }
+
+            int winners = 0;
+            for (int a = 0; a < count; a++) {
+                if (waiting[a] == least) winners++;
+            }
+            for (int a = 0; a < count; a++) {
+                if (waiting[a] == least) block.wins[a] += 1.0 / winners;
+            }
+            if (progress != null) {
+                progress.accept(1);
+            }
+        }
+        return block;
+    }
+
+    private static class Block {
+        final RunningStatistics[] waiting;
+        final RunningStatistics[] turnaround;
+        final RunningStatistics[] response;
+        final double[] wins;
+
+        Block(int algorithms) {
+            waiting = new RunningStatistics[algorithms];
+            turnaround = new RunningStatistics[algorithms];
+            response = new RunningStatistics[algorithms];
+            wins = new double[algorithms];
+            for (int a = 0; a < algorithms; a++) {
+                waiting[a] = new RunningStatistics();
+                turnaround[a] = new RunningStatistics();
+                response[a] = new RunningStatistics();
+            }
+        }
+
+        void merge(Block other) {
+            for (int a = 0; a < wins.length; a++) {
+                waiting[a].merge(other.waiting[a]);
+                turnaround[a].merge(other.turnaround[a]);
+                response[a].merge(other.response[a]);
+                wins[a] += other.wins[a];
+            }
+        }
+    }
+
+    // Per-trial sums only: no Gantt chart, per-process rows or histograms
+    private static class TrialSink implements ScheduleSink {
+        double waiting;
+        double turnaround;
+        double response;
+
+        void reset() {
+            waiting = 0;
+            turnaround = 0;
+            response = 0;
+        }
+
+        @Override
+        public void slice(int startTime, int endTime, int pid) {
+        }
+
+        @Override
+        public void completed(int pid, int arrivalTime, int burstTime, int startTime, int endTime) {
+            int turnaroundTime = endTime - arrivalTime;
+            waiting += turnaroundTime - burstTime;
+            turnaround += turnaroundTime;
+            response += startTime - arrivalTime;
+        }
+    }
+}
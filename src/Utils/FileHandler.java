@@ -3,18 +3,16 @@ package Utils;
 
 import Models.ProcessResult;
 import Models.GanttBlock;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.pdmodel.PDPage;
-import org.apache.pdfbox.pdmodel.PDPageContentStream;
 import org.apache.pdfbox.pdmodel.common.PDRectangle;
 import org.apache.pdfbox.pdmodel.font.PDType1Font;
 
-import javax.swing.filechooser.FileNameExtensionFilter;
-import java.awt.*;
 import java.util.List;
 
 
 import Models.Process;
+import Models.ProcessTable;
 import Models.SchedulingResult;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
@@ -23,47 +21,68 @@ import org.apache.poi.xwpf.usermodel.XWPFParagraph;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.text.PDFTextStripper;
 
-import javax.swing.*;
-import javax.swing.filechooser.FileNameExtensionFilter;
 import java.io.*;
 import java.util.ArrayList;
 
 public class FileHandler {
 
-	public static File chooseProcessFile() {
-	    JFileChooser fileChooser = new JFileChooser();
-	    fileChooser.setDialogTitle("Import Process Table");
-	    fileChooser.setFileFilter(new FileNameExtensionFilter(
-	            "Supported Files (Word, PDF, CSV, TXT)", "docx", "pdf", "csv", "txt"));
-	    if (fileChooser.showOpenDialog(null) == JFileChooser.APPROVE_OPTION) {
-	        return fileChooser.getSelectedFile();
+	/** File extensions {@link #importProcesses(File)} understands. */
+	public static final String[] SUPPORTED_EXTENSIONS = {"docx", "pdf", "csv", "txt", BinaryFormat.WORKLOAD_EXTENSION};
+
+	public static boolean isSupported(File file) {
+	    String extension = getExtension(file);
+	    for (String supported : SUPPORTED_EXTENSIONS) {
+	        if (supported.equals(extension)) return true;
 	    }
-	    return null;
+	    return false;
+	}
+
+	/**
+	 * Reads a process table from a Word, PDF, CSV, TXT or binary workload file. Rows that had
+	 * to be skipped are dropped; use {@link #importTable(File, List)} to
+	 * report them.
+	 *
+	 * @throws IOException if the format is unsupported or the file cannot be parsed
+	 */
+	public static List<Process> importProcesses(File file) throws IOException {
+	    return new ArrayList<>(importTable(file, new ArrayList<>()).asList());
 	}
 
-	public static List<Process> importProcesses(File file) {
-	    List<Process> processes = new ArrayList<>();
+	/**
+	 * Reads a process table into columns. Nothing here talks to the user
+	 * directly: errors are thrown and every skipped row is added to
+	 * {@code warnings} (e.g. {@code line 3: "Arrival Burst Priority"}).
+	 *
+	 * @throws IOException if the format is unsupported or the file cannot be parsed
+	 */
+	public static ProcessTable importTable(File file, List<String> warnings) throws IOException {
 	    try {
-	        String extension = file.getName().substring(file.getName().lastIndexOf(".") + 1);
-	        switch (extension.toLowerCase()) {
+	        switch (getExtension(file)) {
 	            case "docx":
-	                return importFromWord(file);
+	                return ProcessTable.fromList(importFromWord(file, warnings));
 	            case "pdf":
-	                return importFromPDF(file);
+	                return ProcessTable.fromList(importFromPDF(file));
 	            case "csv":
 	            case "txt":
-	                return importFromText(file);
+	                return importFromText(file, warnings);
+	            case BinaryFormat.WORKLOAD_EXTENSION:
+	                return BinaryFormat.readWorkload(file.toPath());
 	            default:
-	                JOptionPane.showMessageDialog(null, "Unsupported file format");
+	                throw new IOException("Unsupported file format: " + file.getName());
 	        }
+	    } catch (IOException e) {
+	        throw e;
 	    } catch (Exception e) {
-	        JOptionPane.showMessageDialog(null, "Error importing file: " + e.getMessage());
+	        throw new IOException("Error importing " + file.getName() + ": " + e.getMessage(), e);
 	    }
-	    return processes;
+	}
+
+	private static String getExtension(File file) {
+	    return file.getName().substring(file.getName().lastIndexOf(".") + 1).toLowerCase();
 	}
 
 
-    private static List<Process> importFromWord(File file) throws Exception {
+    private static List<Process> importFromWord(File file, List<String> warnings) throws Exception {
         List<Process> processes = new ArrayList<>();
         int[] id = {1}; // Use array to mutate inside lambda
 
@@ -97,7 +116,7 @@ public class FileHandler {
 
                         processes.add(new Process(id[0]++, arrival, burst, priority));
                     } catch (Exception e) {
-                        System.err.println("Skipping invalid row " + i + ": " + e.getMessage());
+                        warnings.add("table row " + i + ": " + e.getMessage());
                     }
                 }
             });
@@ -130,98 +149,52 @@ public class FileHandler {
         return processes;
     }
 
-    private static List<Process> importFromText(File file) throws Exception {
-        List<Process> processes = new ArrayList<>();
-        try (BufferedReader br = new BufferedReader(new FileReader(file))) {
-            String line;
-            int id = 1;
-            while ((line = br.readLine()) != null) {
-                line = line.trim();
-                if (line.matches("^\\d+\\s+\\d+\\s+\\d+$")) {
-                    String[] parts = line.split("\\s+");
-                    int arrival = Integer.parseInt(parts[0]);
-                    int burst = Integer.parseInt(parts[1]);
-                    int priority = Integer.parseInt(parts[2]);
-                    processes.add(new Process(id++, arrival, burst, priority));
-                }
-            }
+    private static ProcessTable importFromText(File file, List<String> warnings) throws IOException {
+        TextWorkloadParser.Result parsed = TextWorkloadParser.parse(file.toPath());
+        warnings.addAll(parsed.getMalformedLines());
+        long unreported = parsed.getMalformedCount() - parsed.getMalformedLines().size();
+        if (unreported > 0) {
+            warnings.add(unreported + " more malformed lines");
         }
-        return processes;
+        return parsed.getTable();
     }
 
-    public static void exportToPDF(SchedulingResult result, String algorithm) {
-        JFileChooser fileChooser = new JFileChooser();
-        fileChooser.setDialogTitle("Save PDF Report");
-        fileChooser.setSelectedFile(new File(algorithm + "_Report.pdf"));
-        fileChooser.setFileFilter(new FileNameExtensionFilter("PDF Files", "pdf"));
-
-        if (fileChooser.showSaveDialog(null) == JFileChooser.APPROVE_OPTION) {
-            File file = fileChooser.getSelectedFile();
-            try (PDDocument document = new PDDocument()) {
-                PDPage page = new PDPage(PDRectangle.LETTER);
-                document.addPage(page);
-
-                PDPageContentStream content = new PDPageContentStream(document, page);
-                content.setFont(PDType1Font.HELVETICA_BOLD, 14);
-                content.beginText();
-                content.newLineAtOffset(50, 750);
-                content.showText("Scheduling Report - Algorithm: " + algorithm);
-                content.endText();
-
-                int y = 720;
-                content.setFont(PDType1Font.HELVETICA, 10);
-
-                // Table Header
-                String header = String.format("%-5s %-7s %-7s %-9s %-7s %-6s %-9s %-11s",
-                        "ID", "Arrival", "Burst", "Priority", "Start", "End", "Waiting", "Turnaround");
-                y = drawText(content, header, y, true);
-
-                // Table Rows
+    public static void exportToPDF(SchedulingResult result, String algorithm, File file) throws IOException {
+        try (PDDocument document = new PDDocument(MemoryUsageSetting.setupTempFileOnly())) {
+            try (PagedTextWriter out = new PagedTextWriter(document, PDRectangle.LETTER)) {
+                out.setFont(PDType1Font.HELVETICA_BOLD, 14);
+                out.line("Scheduling Report - Algorithm: " + algorithm);
+                out.gap(15);
+
+                // Results carry no priority, so the table has no priority column
+                out.setFont(PDType1Font.HELVETICA_BOLD, 10);
+                out.beginTable(String.format("%-5s %-7s %-7s %-7s %-6s %-9s %-11s",
+                        "ID", "Arrival", "Burst", "Start", "End", "Waiting", "Turnaround"));
+                out.setFont(PDType1Font.HELVETICA, 10);
                 for (ProcessResult p : result.getProcessResults()) {
-                    String row = String.format("%-5d %-7d %-7d %-9d %-7d %-6d %-9d %-11d",
+                    out.line(String.format("%-5d %-7d %-7d %-7d %-6d %-9d %-11d",
                             p.getPid(), p.getArrivalTime(), p.getBurstTime(),
-                            p.getStartTime(), p.getEndTime(), p.getWaitingTime(), p.getTurnaroundTime());
-                    y = drawText(content, row, y, false);
-                    if (y < 100) break; // Avoid overflow (basic)
+                            p.getStartTime(), p.getEndTime(), p.getWaitingTime(), p.getTurnaroundTime()));
                 }
+                out.endTable();
 
-                // Gantt Chart
-                y -= 20;
-                drawText(content, "Gantt Chart:", y, true);
-                y -= 15;
-
-                StringBuilder gantt = new StringBuilder();
+                // Gantt Chart, wrapped to the page width
+                out.gap(20);
+                out.setFont(PDType1Font.HELVETICA_BOLD, 10);
+                out.line("Gantt Chart:");
+                out.setFont(PDType1Font.HELVETICA, 10);
                 for (GanttBlock block : result.getGanttChart()) {
-                    gantt.append("[P").append(block.getLabel())
-                         .append(" | ").append(block.getStartTime())
-                         .append("-").append(block.getEndTime()).append("] ");
+                    out.appendWrapped("[P" + block.getLabel() + " | " + block.getStartTime()
+                            + "-" + block.getEndTime() + "] ");
                 }
-                y = drawText(content, gantt.toString(), y, false);
 
                 // Metrics
-                y -= 30;
-                drawText(content, "Average Waiting Time: " + result.getAverageWaitingTime(), y, false);
-                y -= 15;
-                drawText(content, "Average Turnaround Time: " + result.getAverageTurnaroundTime(), y, false);
-
-                content.close();
-                document.save(file);
-                JOptionPane.showMessageDialog(null, "PDF saved: " + file.getAbsolutePath());
-
-            } catch (Exception e) {
-                JOptionPane.showMessageDialog(null, "Error writing PDF: " + e.getMessage());
+                out.gap(15);
+                out.line("Average Waiting Time: " + result.getAverageWaitingTime());
+                out.line("Average Turnaround Time: " + result.getAverageTurnaroundTime());
             }
+            document.save(file);
         }
     }
 
-    private static int drawText(PDPageContentStream content, String text, int y, boolean bold) throws IOException {
-        if (y < 60) return y;
-        content.beginText();
-        content.setFont(bold ? PDType1Font.HELVETICA_BOLD : PDType1Font.HELVETICA, 10);
-        content.newLineAtOffset(50, y);
-        content.showText(text);
-        content.endText();
-        return y - 15;
-    }
-
 }
@@ -0,0 +1,178 @@
+package Utils;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Writes lines of text down the pages of a document, starting a new page
+ * whenever the current one is full, so no line is ever dropped. A table
+ * header is repeated at the top of each page the table continues on, and
+ * {@link #appendWrapped} flows short pieces of text into lines that fit the
+ * page width.
+ *
+ * Only the current page's content stream is open; finished pages go to the
+ * document, whose memory setting decides whether they stay on the heap.
+ */
+class PagedTextWriter implements Closeable {
+    static final float MARGIN = 50;
+    static final float TOP = 750;
+    static final float BOTTOM = 60;
+    static final float LEADING = 15;
+
+    private static final PDFont[] FONTS = {PDType1Font.HELVETICA, PDType1Font.HELVETICA_BOLD};
+
+    private final PDDocument document;
+    private final PDRectangle pageSize;
+    private final float lineWidth;
+    private final Runnable checkpoint;
+    private PDPageContentStream content;
+    private float y;
+    private float lineY;   // baseline of the last line in the open text object
+    private PDFont font = PDType1Font.HELVETICA;
+    private float fontSize = 10;
+    private String tableHeader;
+    private PDFont tableHeaderFont;
+    private final StringBuilder wrapped = new StringBuilder();
+    private float wrappedWidth;
+
+    PagedTextWriter(PDDocument document, PDRectangle pageSize) {
+        this(document, pageSize, () -> { });
+    }
+
+    /** @param checkpoint run before each new page; it may throw to abort the document */
+    PagedTextWriter(PDDocument document, PDRectangle pageSize, Runnable checkpoint) {
+        this.document = document;
+        this.pageSize = pageSize;
+        this.lineWidth = pageSize.getWidth() - 2 * MARGIN;
+        this.checkpoint = checkpoint;
+    }
+
+    /**
+     * Fills the glyph caches of the shared standard fonts. They are filled
+     * lazily and without locking, so this must run before several threads
+     * write documents at once; after it they are only read.
+     */
+    static void prepareFonts() throws IOException {
+        StringBuilder printable = new StringBuilder();
+        for (char c = ' '; c <= '~'; c++) {
+            printable.append(c);
+        }
+        for (PDFont shared : FONTS) {
+            shared.getStringWidth(printable.toString());
+        }
+    }
+
+    void setFont(PDFont font, float size) throws IOException {
+        flushWrapped();
+        this.font = font;
+        this.fontSize = size;
+        if (content != null) {
+            content.setFont(font, size);
+        }
+    }
+
+    /** Large bold title, as at the top of each report section. */
+    void title(String text) throws IOException {
+        setFont(PDType1Font.HELVETICA_BOLD, 16);
+        line(text);
+        y -= 30 - LEADING;
+    }
+
+    /** Bold section heading followed by regular 10pt text. */
+    void heading(String text) throws IOException {
+        setFont(PDType1Font.HELVETICA_BOLD, 12);
+        line(text);
+        setFont(PDType1Font.HELVETICA, 10);
+    }
+
+    void line(String text) throws IOException {
+        flushWrapped();
+        if (content == null || y < BOTTOM) {
+            newPage();
+        }
+        content.newLineAtOffset(0, y - lineY);
+        content.showText(text);
+        lineY = y;
+        y -= LEADING;
+    }
+
+    /** Vertical space; dropped at a page break. */
+    void gap(float height) throws IOException {
+        flushWrapped();
+        y -= height;
+    }
+
+    /** Writes {@code header} and repeats it on the pages that follow, until {@link #endTable()}. */
+    void beginTable(String header) throws IOException {
+        line(header);
+        tableHeader = header;
+        tableHeaderFont = font;
+    }
+
+    void endTable() {
+        tableHeader = null;
+    }
+
+    /**
+     * Adds {@code text} to the current wrapped line, starting a new line
+     * first if it would not fit. Pieces are never split.
+     */
+    void appendWrapped(String text) throws IOException {
+        float width = font.getStringWidth(text) / 1000 * fontSize;
+        if (wrapped.length() > 0 && wrappedWidth + width > lineWidth) {
+            flushWrapped();
+        }
+        wrapped.append(text);
+        wrappedWidth += width;
+    }
+
+    /** Finishes the current page; the writer must not be used afterwards. */
+    @Override
+    public void close() throws IOException {
+        flushWrapped();
+        closePage();
+    }
+
+    private void flushWrapped() throws IOException {
+        if (wrapped.length() == 0) return;
+        String text = wrapped.toString();
+        wrapped.setLength(0);
+        wrappedWidth = 0;
+        line(text);
+    }
+
+    private void newPage() throws IOException {
+        checkpoint.run();
+        closePage();
+        PDPage page = new PDPage(pageSize);
+        document.addPage(page);
+        content = new PDPageContentStream(document, page);
+        content.beginText();
+        content.setFont(font, fontSize);
+        y = TOP;
+        lineY = 0;
+        content.newLineAtOffset(MARGIN, 0);
+        if (tableHeader != null) {
+            content.setFont(tableHeaderFont, fontSize);
+            content.newLineAtOffset(0, y - lineY);
+            content.showText(tableHeader);
+            content.setFont(font, fontSize);
+            lineY = y;
+            y -= LEADING;
+        }
+    }
+
+    private void closePage() throws IOException {
+        if (content == null) return;
+        content.endText();
+        content.close();
+        content = null;
+    }
+}
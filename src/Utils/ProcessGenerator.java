@@ -1,25 +1,39 @@
 package Utils;
 
 import Models.Process;
+import Models.ProcessTable;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 public class ProcessGenerator {
 
     public static List<Process> generate(int count) {
-        List<Process> processes = new ArrayList<>();
-        Random rand = new Random();
+        return new ArrayList<>(generate(count, new SplittableRandom()).asList());
+    }
 
-        for (int i = 0; i < count; i++) {
-            int id = i + 1;
-            int arrivalTime = rand.nextInt(10);       // Arrival between 0-9
-            int burstTime = rand.nextInt(20) + 1;     // Burst between 1-20
-            int priority = rand.nextInt(5) + 1;       // Priority between 1-5
+    /** Same workload for the same seed. */
+    public static List<Process> generate(int count, long seed) {
+        return new ArrayList<>(generate(count, new SplittableRandom(seed)).asList());
+    }
 
-            processes.add(new Process(id, arrivalTime, burstTime, priority));
+    /**
+     * Draws {@code count} processes from {@code random} straight into table
+     * columns, with no per-process objects.
+     */
+    public static ProcessTable generate(int count, SplittableRandom random) {
+        int[] ids = new int[count];
+        int[] arrivalTimes = new int[count];
+        int[] burstTimes = new int[count];
+        int[] priorities = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            ids[i] = i + 1;
+            arrivalTimes[i] = random.nextInt(10);      // Arrival between 0-9
+            burstTimes[i] = random.nextInt(20) + 1;    // Burst between 1-20
+            priorities[i] = random.nextInt(5) + 1;     // Priority between 1-5
         }
 
-        return processes;
+        return new ProcessTable(ids, arrivalTimes, burstTimes, priorities);
     }
 }
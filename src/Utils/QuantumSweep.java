@@ -0,0 +1,188 @@
+package Utils;
+
+import Algorithms.MetricsCollector;
+import Algorithms.ProgressSink;
+import Algorithms.RoundRobin;
+import Algorithms.SchedulerConfig;
+import Algorithms.SchedulingAlgorithm;
+import Models.ProcessTable;
+import Models.ScheduleMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Runs a quantum-based algorithm at many quanta and finds the one with the
+ * least average waiting time. Every quantum is a metrics-only simulation of
+ * the same read-only {@link ProcessTable}; the quanta of one round run
+ * concurrently on the common fork/join pool.
+ *
+ * {@link #tune} evaluates every quantum in the range when that is cheap.
+ * Otherwise it searches coarse to fine: a geometric grid over the range,
+ * then linear grids between the neighbours of the best quantum so far,
+ * until the remaining window is small enough to evaluate exhaustively.
+ * Waiting time is not unimodal in the quantum, so this finds a very good
+ * quantum rather than a guaranteed optimum.
+ */
+public class QuantumSweep {
+    /** Quanta evaluated per coarse-to-fine round. */
+    static final int GRID_POINTS = 16;
+    /** A range is swept exhaustively if that simulates at most this many processes in total. */
+    static final long EXHAUSTIVE_BUDGET = 20_000_000L;
+
+    /**
+     * Round Robin over every useful quantum: 1 up to the longest burst,
+     * beyond which it behaves exactly like FCFS.
+     */
+    public static QuantumSweepResult tune(ProcessTable processes, SchedulerConfig config) {
+        return tune(new RoundRobin(), processes, config, 1, maxUsefulQuantum(processes), null);
+    }
+
+    /**
+     * Finds the best quantum in {@code [minQuantum, maxQuantum]}.
+     *
+     * @param progress receives completion counts (out of {@code processes.size()}
+     *                 per evaluated quantum, see {@link #plannedEvaluations}) from
+     *                 several threads at once; may be null, and may throw to abort
+     * @throws IllegalArgumentException if the range is empty or not positive
+     */
+    public static QuantumSweepResult tune(SchedulingAlgorithm algorithm, ProcessTable processes,
+                                          SchedulerConfig config, int minQuantum, int maxQuantum,
+                                          IntConsumer progress) {
+        if (minQuantum < 1 || maxQuantum < minQuantum) {
+            throw new IllegalArgumentException("Invalid quantum range " + minQuantum + ".." + maxQuantum);
+        }
+        TreeMap<Integer, ScheduleMetrics> evaluated = new TreeMap<>();
+        if (exhaustive(processes.size(), minQuantum, maxQuantum)) {
+            evaluate(algorithm, processes, config, range(minQuantum, maxQuantum), evaluated, progress);
+            return new QuantumSweepResult(algorithm.getName(), evaluated);
+        }
+
+        evaluate(algorithm, processes, config, geometricGrid(minQuantum, maxQuantum), evaluated, progress);
+        while (true) {
+            // Narrow to the evaluated neighbours of the best quantum so far
+            int best = new QuantumSweepResult(algorithm.getName(), evaluated).getOptimalQuantum();
+            Integer below = evaluated.lowerKey(best);
+            Integer above = evaluated.higherKey(best);
+            int low = below != null ? below + 1 : minQuantum;
+            int high = above != null ? above - 1 : maxQuantum;
+            if (high - low + 1 <= GRID_POINTS) {
+                evaluate(algorithm, processes, config, range(low, high), evaluated, progress);
+                return new QuantumSweepResult(algorithm.getName(), evaluated);
+            }
+            evaluate(algorithm, processes, config, linearGrid(low, high), evaluated, progress);
+        }
+    }
+
+    /** Evaluates exactly the given quanta. */
+    public static QuantumSweepResult sweep(SchedulingAlgorithm algorithm, ProcessTable processes,
+                                           SchedulerConfig config, int[] quanta, IntConsumer progress) {
+        List<Integer> grid = new ArrayList<>();
+        for (int quantum : quanta) {
+            if (quantum < 1) throw new IllegalArgumentException("Quantum must be positive: " + quantum);
+            grid.add(quantum);
+        }
+        TreeMap<Integer, ScheduleMetrics> evaluated = new TreeMap<>();
+        evaluate(algorithm, processes, config, grid, evaluated, progress);
+        return new QuantumSweepResult(algorithm.getName(), evaluated);
+    }
+
+    /** Longest burst in the workload (at least 1); larger quanta never preempt. */
+    public static int maxUsefulQuantum(ProcessTable processes) {
+        int max = 1;
+        for (int i = 0; i < processes.size(); i++) {
+            max = Math.max(max, processes.getBurstTime(i));
+        }
+        return max;
+    }
+
+    /**
+     * Upper bound on the number of quanta {@link #tune} evaluates for this
+     * range and workload size, for progress reporting.
+     */
+    public static long plannedEvaluations(int processCount, int minQuantum, int maxQuantum) {
+        if (exhaustive(processCount, minQuantum, maxQuantum)) {
+            return (long) maxQuantum - minQuantum + 1;
+        }
+        // Widest window the geometric grid can leave, then each linear round shrinks it
+        List<Integer> grid = geometricGrid(minQuantum, maxQuantum);
+        long width = 0;
+        for (int i = 0; i < grid.size(); i++) {
+            long low = i > 0 ? grid.get(i - 1) + 1 : minQuantum;
+            long high = i + 1 < grid.size() ? grid.get(i + 1) - 1 : maxQuantum;
+            width = Math.max(width, high - low + 1);
+        }
+        long total = grid.size();
+        while (width > GRID_POINTS) {
+            total += GRID_POINTS;
+            width = 2 * ((width - 1) / (GRID_POINTS - 1) + 1);
+        }
+        return total + width;
+    }
+
+    private static boolean exhaustive(int processCount, int minQuantum, int maxQuantum) {
+        long span = (long) maxQuantum - minQuantum + 1;
+        return span <= GRID_POINTS || span * Math.max(1, processCount) <= EXHAUSTIVE_BUDGET;
+    }
+
+    private static void evaluate(SchedulingAlgorithm algorithm, ProcessTable processes, SchedulerConfig config,
+                                 List<Integer> quanta, Map<Integer, ScheduleMetrics> evaluated,
+                                 IntConsumer progress) {
+        List<Integer> pending = quanta.stream()
+                .filter(quantum -> !evaluated.containsKey(quantum))
+                .distinct()
+                .collect(Collectors.toList());
+        int step = Math.max(1, processes.size() / 100);
+        List<ScheduleMetrics> metrics = pending.parallelStream()
+                .map(quantum -> {
+                    SchedulerConfig trial = new SchedulerConfig(config);
+                    trial.setQuantum(quantum);
+                    if (progress == null) {
+                        return algorithm.measure(processes, trial);
+                    }
+                    MetricsCollector collector = new MetricsCollector(processes.size(),
+                            algorithm.usesCores() ? trial.getCores() : 1);
+                    ProgressSink sink = new ProgressSink(collector, step, progress);
+                    algorithm.schedule(processes, trial, sink);
+                    sink.flush();
+                    return collector.toMetrics();
+                })
+                .collect(Collectors.toList());
+        for (int i = 0; i < pending.size(); i++) {
+            evaluated.put(pending.get(i), metrics.get(i));
+        }
+    }
+
+    private static List<Integer> range(int low, int high) {
+        List<Integer> quanta = new ArrayList<>(high - low + 1);
+        for (int quantum = low; quantum <= high; quantum++) {
+            quanta.add(quantum);
+        }
+        return quanta;
+    }
+
+    // Evenly spaced on a log scale: small quanta matter most
+    private static List<Integer> geometricGrid(int low, int high) {
+        TreeSet<Integer> grid = new TreeSet<>();
+        double ratio = (double) high / low;
+        for (int i = 0; i < GRID_POINTS; i++) {
+            grid.add((int) Math.round(low * Math.pow(ratio, i / (double) (GRID_POINTS - 1))));
+        }
+        grid.add(low);
+        grid.add(high);
+        return new ArrayList<>(grid);
+    }
+
+    private static List<Integer> linearGrid(int low, int high) {
+        TreeSet<Integer> grid = new TreeSet<>();
+        for (int i = 0; i < GRID_POINTS; i++) {
+            grid.add(low + (int) Math.round((double) (high - low) * i / (GRID_POINTS - 1)));
+        }
+        return new ArrayList<>(grid);
+    }
+}
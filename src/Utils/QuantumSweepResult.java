@@ -0,0 +1,63 @@
+package Utils;
+
+import Models.ScheduleMetrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Metrics of one quantum-based algorithm at every quantum a
+ * {@link QuantumSweep} evaluated. The optimal quantum has the least average
+ * waiting time, like the {@link AlgorithmRanking}; ties go to fewer context
+ * switches, then to the smaller quantum.
+ */
+public class QuantumSweepResult {
+    private final String algorithm;
+    private final NavigableMap<Integer, ScheduleMetrics> metrics;
+    private final int optimalQuantum;
+
+    /**
+     * @param metrics metrics keyed by quantum; must not be empty
+     */
+    public QuantumSweepResult(String algorithm, Map<Integer, ScheduleMetrics> metrics) {
+        if (metrics.isEmpty()) {
+            throw new IllegalArgumentException("No quantum was evaluated");
+        }
+        this.algorithm = algorithm;
+        this.metrics = Collections.unmodifiableNavigableMap(new TreeMap<>(metrics));
+
+        int best = this.metrics.firstKey();
+        for (Map.Entry<Integer, ScheduleMetrics> entry : this.metrics.entrySet()) {
+            if (better(entry.getValue(), this.metrics.get(best))) {
+                best = entry.getKey();
+            }
+        }
+        this.optimalQuantum = best;
+    }
+
+    // Strictly better only, so the smaller quantum wins a full tie
+    static boolean better(ScheduleMetrics a, ScheduleMetrics b) {
+        int waiting = Double.compare(a.getAverageWaitingTime(), b.getAverageWaitingTime());
+        if (waiting != 0) return waiting < 0;
+        return a.getContextSwitches() < b.getContextSwitches();
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    /** Metrics of every evaluated quantum, in increasing quantum order. */
+    public NavigableMap<Integer, ScheduleMetrics> getMetrics() {
+        return metrics;
+    }
+
+    public int getOptimalQuantum() {
+        return optimalQuantum;
+    }
+
+    public ScheduleMetrics getOptimalMetrics() {
+        return metrics.get(optimalQuantum);
+    }
+}
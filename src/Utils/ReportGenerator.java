@@ -4,9 +4,10 @@ import Models.GanttBlock;
 import Models.ProcessResult;
 import Models.SchedulingResult;
 import Models.Process;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.multipdf.PDFMergerUtility;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
-import org.apache.pdfbox.pdmodel.PDPageContentStream;
 import org.apache.pdfbox.pdmodel.common.PDRectangle;
 import org.apache.pdfbox.pdmodel.font.PDType1Font;
 import org.jfree.chart.ChartFactory;
@@ -15,233 +16,185 @@ import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.data.category.DefaultCategoryDataset;
 
 import javax.imageio.ImageIO;
-import javax.swing.*;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * PDF reports. Text runs onto as many pages as it needs, and documents keep
+ * their content in PDFBox scratch files rather than on the heap. The complete
+ * report renders each algorithm's section into its own temporary file in
+ * parallel, then merges the files in order.
+ */
 public class ReportGenerator {
 
-    public static void generateFullReportForAlgorithm(SchedulingResult result, String algorithmName, String filePath) {
-        try (PDDocument document = new PDDocument()) {
-            PDPage page = new PDPage(PDRectangle.LETTER);
-            document.addPage(page);
-            PDPageContentStream content = new PDPageContentStream(document, page);
-            float y = 750, margin = 50;
-
-            content.setFont(PDType1Font.HELVETICA_BOLD, 16);
-            content.beginText();
-            content.newLineAtOffset(margin, y);
-            content.showText("Full Report - Algorithm: " + algorithmName);
-            content.endText();
-            y -= 30;
-
-            // Process Table from ProcessResult
-            content.setFont(PDType1Font.HELVETICA_BOLD, 12);
-            y = writeLine(content, "Process Table (PID, Arrival, Burst):", y);
-            content.setFont(PDType1Font.HELVETICA, 10);
-            y = writeLine(content, "PID   Arrival   Burst", y);
-            for (ProcessResult p : result.getProcessResults()) {
-                y = writeLine(content, String.format("%-5d %-8d %-7d", p.getPid(), p.getArrivalTime(), p.getBurstTime()), y);
+    public static void generateFullReportForAlgorithm(SchedulingResult result, String algorithmName, String filePath) throws IOException {
+        try (PDDocument document = new PDDocument(MemoryUsageSetting.setupTempFileOnly())) {
+            try (PagedTextWriter out = new PagedTextWriter(document, PDRectangle.LETTER)) {
+                writeSection(out, "Full Report - Algorithm: " + algorithmName, null, result);
             }
-
-            // Metrics Table
-            y -= 20;
-            content.setFont(PDType1Font.HELVETICA_BOLD, 12);
-            y = writeLine(content, "Metrics Table (Start, End, Waiting, Turnaround):", y);
-            content.setFont(PDType1Font.HELVETICA, 10);
-            y = writeLine(content, "PID   Start   End   Waiting   Turnaround", y);
-            for (ProcessResult p : result.getProcessResults()) {
-                y = writeLine(content, String.format("%-5d %-7d %-5d %-9d %-10d",
-                        p.getPid(), p.getStartTime(), p.getEndTime(), p.getWaitingTime(), p.getTurnaroundTime()), y);
-            }
-
-            // Gantt Chart
-            y -= 20;
-            content.setFont(PDType1Font.HELVETICA_BOLD, 12);
-            y = writeLine(content, "Gantt Chart:", y);
-            content.setFont(PDType1Font.HELVETICA, 10);
-            StringBuilder gantt = new StringBuilder();
-            for (GanttBlock block : result.getGanttChart()) {
-                gantt.append("[P").append(block.getLabel())
-                        .append(" | ").append(block.getStartTime())
-                        .append("-").append(block.getEndTime()).append("] ");
-            }
-            y = writeLine(content, gantt.toString(), y);
-
-            // Averages
-            y -= 20;
-            content.setFont(PDType1Font.HELVETICA_BOLD, 12);
-            y = writeLine(content, "Averages:", y);
-            content.setFont(PDType1Font.HELVETICA, 10);
-            y = writeLine(content, "Average Waiting Time: " + result.getAverageWaitingTime(), y);
-            y = writeLine(content, "Average Turnaround Time: " + result.getAverageTurnaroundTime(), y);
-
-            content.close();
             document.save(filePath);
-            JOptionPane.showMessageDialog(null, "Report saved: " + filePath);
-        } catch (IOException e) {
-            JOptionPane.showMessageDialog(null, "Error exporting report: " + e.getMessage());
-            e.printStackTrace();
         }
     }
 
-    public static void generateComparisonReport(Map<String, SchedulingResult> results, String filePath) {
-        try (PDDocument document = new PDDocument()) {
-            PDPage tablePage = new PDPage(PDRectangle.A4);
-            document.addPage(tablePage);
-
-            try (PDPageContentStream content = new PDPageContentStream(document, tablePage)) {
-                content.setFont(PDType1Font.HELVETICA_BOLD, 16);
-                content.beginText();
-                content.newLineAtOffset(50, 750);
-                content.showText("Scheduling Algorithms Comparison Report");
-                content.endText();
-
-                content.setFont(PDType1Font.HELVETICA, 12);
-                float y = 720;
-                y = writeLine(content, "Algorithm         Avg Waiting Time      Avg Turnaround Time", y);
-                for (Map.Entry<String, SchedulingResult> entry : results.entrySet()) {
-                    y = writeLine(content, String.format("%-18s %-22.2f %-22.2f",
-                            entry.getKey(),
-                            entry.getValue().getAverageWaitingTime(),
-                            entry.getValue().getAverageTurnaroundTime()), y);
-                }
-            }
-
-            BufferedImage chartImage = createComparisonChart(results);
-            File chartFile = File.createTempFile("chart", ".png");
-            ImageIO.write(chartImage, "png", chartFile);
-
-            PDPage chartPage = new PDPage(PDRectangle.A4);
-            document.addPage(chartPage);
-            PDFUtils.addImageToPage(document, chartPage, chartFile.getAbsolutePath());
-            chartFile.deleteOnExit();
-
+    public static void generateComparisonReport(Map<String, SchedulingResult> results, String filePath) throws IOException {
+        try (PDDocument document = new PDDocument(MemoryUsageSetting.setupTempFileOnly())) {
+            writeComparison(document, PDRectangle.A4, "Scheduling Algorithms Comparison Report", results);
             document.save(filePath);
-        } catch (IOException e) {
-            JOptionPane.showMessageDialog(null, "Failed to generate comparison report: " + e.getMessage());
-            e.printStackTrace();
         }
     }
 
-    public static void generateCompleteReport(Map<String, SchedulingResult> results, Map<String, List<Process>> processMap, String filePath) {
-        try (PDDocument document = new PDDocument()) {
-            float margin = 50;
-
-            for (Map.Entry<String, SchedulingResult> entry : results.entrySet()) {
-                String algo = entry.getKey();
-                SchedulingResult result = entry.getValue();
-                List<Process> processes = processMap.get(algo);
-
-                PDPage page = new PDPage(PDRectangle.LETTER);
-                document.addPage(page);
-                PDPageContentStream content = new PDPageContentStream(document, page);
-                float y = 750;
+    public static void generateCompleteReport(Map<String, SchedulingResult> results, Map<String, List<Process>> processMap, String filePath) throws IOException {
+        generateCompleteReport(results, processMap, filePath, () -> { });
+    }
 
-                content.setFont(PDType1Font.HELVETICA_BOLD, 16);
-                content.beginText();
-                content.newLineAtOffset(margin, y);
-                content.showText("Report - Algorithm: " + algo);
-                content.endText();
-                y -= 30;
+    /**
+     * @param checkpoint run before every page and before the merge, from the
+     *                   rendering threads; it cancels the report by throwing,
+     *                   and the output file is then not written
+     */
+    public static void generateCompleteReport(Map<String, SchedulingResult> results, Map<String, List<Process>> processMap,
+                                              String filePath, Runnable checkpoint) throws IOException {
+        List<String> algorithms = new ArrayList<>(results.keySet());
+        List<File> parts = new ArrayList<>();
+        try {
+            for (int i = 0; i <= algorithms.size(); i++) {
+                parts.add(File.createTempFile("report", ".pdf"));
+            }
 
-                // Process Table
-                content.setFont(PDType1Font.HELVETICA_BOLD, 12);
-                y = writeLine(content, "Process Table (PID, Arrival, Burst, Priority):", y);
-                content.setFont(PDType1Font.HELVETICA, 10);
-                y = writeLine(content, "PID   Arrival   Burst   Priority", y);
-                for (Process p : processes) {
-                    y = writeLine(content, String.format("%-5d %-8d %-7d %-8d",
-                            p.getId(), p.getArrivalTime(), p.getBurstTime(), p.getPriority()), y);
-                }
+            // Every task finishes before a failure is rethrown, so no part is still being written
+            PagedTextWriter.prepareFonts();
+            Exception failure = IntStream.range(0, algorithms.size()).parallel()
+                    .mapToObj(i -> {
+                        String algo = algorithms.get(i);
+                        try {
+                            writeSectionFile(parts.get(i), "Report - Algorithm: " + algo, processMap.get(algo),
+                                    results.get(algo), checkpoint);
+                            return null;
+                        } catch (IOException | RuntimeException e) {
+                            return e;
+                        }
+                    })
+                    .filter(Objects::nonNull)
+                    .findFirst().orElse(null);
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            } else if (failure != null) {
+                throw (RuntimeException) failure;
+            }
 
-                // Metrics Table
-                y -= 20;
-                content.setFont(PDType1Font.HELVETICA_BOLD, 12);
-                y = writeLine(content, "Metrics Table (Start, End, Waiting, Turnaround):", y);
-                content.setFont(PDType1Font.HELVETICA, 10);
-                y = writeLine(content, "PID   Start   End   Waiting   Turnaround", y);
-                for (ProcessResult p : result.getProcessResults()) {
-                    y = writeLine(content, String.format("%-5d %-7d %-5d %-9d %-10d",
-                            p.getPid(), p.getStartTime(), p.getEndTime(),
-                            p.getWaitingTime(), p.getTurnaroundTime()), y);
-                }
+            checkpoint.run();
+            try (PDDocument document = new PDDocument(MemoryUsageSetting.setupTempFileOnly())) {
+                writeComparison(document, PDRectangle.LETTER, "Comparison Table", results);
+                document.save(parts.get(algorithms.size()));
+            }
 
-                // Gantt Chart
-                y -= 20;
-                content.setFont(PDType1Font.HELVETICA_BOLD, 12);
-                y = writeLine(content, "Gantt Chart:", y);
-                content.setFont(PDType1Font.HELVETICA, 10);
-                StringBuilder gantt = new StringBuilder();
-                for (GanttBlock block : result.getGanttChart()) {
-                    gantt.append("[P").append(block.getLabel())
-                            .append(" | ").append(block.getStartTime())
-                            .append("-").append(block.getEndTime()).append("] ");
-                }
-                y = writeLine(content, gantt.toString(), y);
+            checkpoint.run();
 
-                // Averages
-                y -= 20;
-                content.setFont(PDType1Font.HELVETICA_BOLD, 12);
-                y = writeLine(content, "Averages:", y);
-                content.setFont(PDType1Font.HELVETICA, 10);
-                y = writeLine(content, "Average Waiting Time: " + result.getAverageWaitingTime(), y);
-                y = writeLine(content, "Average Turnaround Time: " + result.getAverageTurnaroundTime(), y);
+            PDFMergerUtility merger = new PDFMergerUtility();
+            for (File part : parts) {
+                merger.addSource(part);
+            }
+            merger.setDestinationFileName(filePath);
+            merger.mergeDocuments(MemoryUsageSetting.setupTempFileOnly());
+        } finally {
+            for (File part : parts) {
+                Files.deleteIfExists(part.toPath());
+            }
+        }
+    }
 
-                content.close();
+    private static void writeSectionFile(File file, String title, List<Process> processes, SchedulingResult result,
+                                         Runnable checkpoint) throws IOException {
+        try (PDDocument document = new PDDocument(MemoryUsageSetting.setupTempFileOnly())) {
+            try (PagedTextWriter out = new PagedTextWriter(document, PDRectangle.LETTER, checkpoint)) {
+                writeSection(out, title, processes, result);
             }
+            document.save(file);
+        }
+    }
 
-            // Comparison Table Page
-            PDPage tablePage = new PDPage(PDRectangle.LETTER);
-            document.addPage(tablePage);
-            PDPageContentStream tableContent = new PDPageContentStream(document, tablePage);
-            float y = 750;
+    /**
+     * One algorithm's tables, Gantt chart and averages. Without
+     * {@code processes} the process table is taken from the results and has
+     * no priority column.
+     */
+    private static void writeSection(PagedTextWriter out, String title, List<Process> processes, SchedulingResult result) throws IOException {
+        out.title(title);
+
+        // Process Table
+        if (processes != null) {
+            out.heading("Process Table (PID, Arrival, Burst, Priority):");
+            out.beginTable("PID   Arrival   Burst   Priority");
+            for (Process p : processes) {
+                out.line(String.format("%-5d %-8d %-7d %-8d",
+                        p.getId(), p.getArrivalTime(), p.getBurstTime(), p.getPriority()));
+            }
+        } else {
+            out.heading("Process Table (PID, Arrival, Burst):");
+            out.beginTable("PID   Arrival   Burst");
+            for (ProcessResult p : result.getProcessResults()) {
+                out.line(String.format("%-5d %-8d %-7d", p.getPid(), p.getArrivalTime(), p.getBurstTime()));
+            }
+        }
+        out.endTable();
+
+        // Metrics Table
+        out.gap(20);
+        out.heading("Metrics Table (Start, End, Waiting, Turnaround):");
+        out.beginTable("PID   Start   End   Waiting   Turnaround");
+        for (ProcessResult p : result.getProcessResults()) {
+            out.line(String.format("%-5d %-7d %-5d %-9d %-10d",
+                    p.getPid(), p.getStartTime(), p.getEndTime(),
+                    p.getWaitingTime(), p.getTurnaroundTime()));
+        }
+        out.endTable();
+
+        // Gantt Chart, wrapped to the page width
+        out.gap(20);
+        out.heading("Gantt Chart:");
+        for (GanttBlock block : result.getGanttChart()) {
+            out.appendWrapped("[P" + block.getLabel() + " | " + block.getStartTime()
+                    + "-" + block.getEndTime() + "] ");
+        }
 
-            tableContent.setFont(PDType1Font.HELVETICA_BOLD, 16);
-            tableContent.beginText();
-            tableContent.newLineAtOffset(50, y);
-            tableContent.showText("Comparison Table");
-            tableContent.endText();
-            y -= 30;
+        // Averages
+        out.gap(20);
+        out.heading("Averages:");
+        out.line("Average Waiting Time: " + result.getAverageWaitingTime());
+        out.line("Average Turnaround Time: " + result.getAverageTurnaroundTime());
+    }
 
-            tableContent.setFont(PDType1Font.HELVETICA, 12);
-            y = writeLine(tableContent, "Algorithm         Avg Waiting Time      Avg Turnaround Time", y);
+    // Table of averages, then the bar chart on a page of its own
+    private static void writeComparison(PDDocument document, PDRectangle pageSize, String title,
+                                        Map<String, SchedulingResult> results) throws IOException {
+        try (PagedTextWriter out = new PagedTextWriter(document, pageSize)) {
+            out.title(title);
+            out.setFont(PDType1Font.HELVETICA, 12);
+            out.beginTable("Algorithm         Avg Waiting Time      Avg Turnaround Time");
             for (Map.Entry<String, SchedulingResult> entry : results.entrySet()) {
-                y = writeLine(tableContent, String.format("%-18s %-22.2f %-22.2f",
+                out.line(String.format("%-18s %-22.2f %-22.2f",
                         entry.getKey(),
                         entry.getValue().getAverageWaitingTime(),
-                        entry.getValue().getAverageTurnaroundTime()), y);
+                        entry.getValue().getAverageTurnaroundTime()));
             }
-            tableContent.close();
-
-            // Comparison Chart Page
-            BufferedImage chartImage = createComparisonChart(results);
-            File chartFile = File.createTempFile("chart", ".png");
-            ImageIO.write(chartImage, "png", chartFile);
-
-            PDPage chartPage = new PDPage(PDRectangle.LETTER);
-            document.addPage(chartPage);
-            PDFUtils.addImageToPage(document, chartPage, chartFile.getAbsolutePath());
-            chartFile.deleteOnExit();
-
-            document.save(filePath);
-            JOptionPane.showMessageDialog(null, "Full Report saved: " + filePath);
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(null, "Failed to generate full report: " + e.getMessage());
-            e.printStackTrace();
+            out.endTable();
         }
-    }
 
-    private static float writeLine(PDPageContentStream content, String text, float y) throws IOException {
-        if (y < 60) return y;
-        content.beginText();
-        content.newLineAtOffset(50, y);
-        content.showText(text);
-        content.endText();
-        return y - 15;
+        BufferedImage chartImage = createComparisonChart(results);
+        File chartFile = File.createTempFile("chart", ".png");
+        ImageIO.write(chartImage, "png", chartFile);
+
+        PDPage chartPage = new PDPage(pageSize);
+        document.addPage(chartPage);
+        PDFUtils.addImageToPage(document, chartPage, chartFile.getAbsolutePath());
+        chartFile.deleteOnExit();
     }
 
     private static BufferedImage createComparisonChart(Map<String, SchedulingResult> results) {
@@ -0,0 +1,141 @@
+package Utils;
+
+import Algorithms.SchedulerConfig;
+import Algorithms.SchedulingAlgorithm;
+import Models.GanttTimeline;
+import Models.ProcessTable;
+import Models.SchedulingResult;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+/**
+ * Bounded LRU cache of {@link SchedulingResult}s, keyed by algorithm name,
+ * the settings that algorithm uses ({@link SchedulerConfig#relevantTo}) and
+ * the {@link ProcessTable#fingerprint() fingerprint} of the workload, so that
+ * changing the quantum, say, does not miss for FCFS. Editing the workload
+ * changes its fingerprint, so stale results are never returned; they simply
+ * age out.
+ *
+ * The cache is capped by the estimated heap footprint of its results rather
+ * than their number: the least recently used results are evicted until the
+ * total fits, and a result larger than the whole capacity is not kept.
+ * Cached results are shared and must not be modified. Thread-safe.
+ */
+public class ResultCache {
+    // Rough heap cost per element, for the size estimate
+    static final long BYTES_PER_SLICE = 16;      // GanttTimeline columns, with growth slack
+    static final long BYTES_PER_BLOCK = 48;      // GanttBlock object in any other list
+    static final long BYTES_PER_RESULT = 48;     // ProcessResult object and its reference
+    static final long BYTES_PER_STATISTIC = 96;  // map entry, name and boxed value
+    static final long BYTES_PER_ENTRY = 256;     // key, result object and map overhead
+
+    private final long capacityBytes;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    /**
+     * @throws IllegalArgumentException if {@code capacityBytes} is negative
+     */
+    public ResultCache(long capacityBytes) {
+        if (capacityBytes < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + capacityBytes);
+        }
+        this.capacityBytes = capacityBytes;
+    }
+
+    /** @return the cached result, or null */
+    public SchedulingResult get(SchedulingAlgorithm algorithm, SchedulerConfig config, long fingerprint) {
+        Key key = new Key(algorithm.getName(), config.relevantTo(algorithm), fingerprint);
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            return entry == null ? null : entry.result;
+        }
+    }
+
+    /**
+     * Caches {@code result}, evicting the least recently used results as
+     * needed. The configuration is copied, so the caller may change it later.
+     */
+    public void put(SchedulingAlgorithm algorithm, SchedulerConfig config, long fingerprint, SchedulingResult result) {
+        long size = estimateBytes(result);
+        if (size > capacityBytes) {
+            return;
+        }
+        Key key = new Key(algorithm.getName(), config.relevantTo(algorithm), fingerprint);
+        synchronized (this) {
+            Entry previous = entries.put(key, new Entry(result, size));
+            if (previous != null) {
+                bytes -= previous.bytes;
+            }
+            bytes += size;
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (bytes > capacityBytes) {
+                bytes -= eldest.next().bytes;
+                eldest.remove();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /** Estimated heap footprint of the cached results. */
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    public long getCapacityBytes() {
+        return capacityBytes;
+    }
+
+    static long estimateBytes(SchedulingResult result) {
+        long slices = result.getGanttChart().size();
+        return BYTES_PER_ENTRY
+                + slices * (result.getGanttChart() instanceof GanttTimeline ? BYTES_PER_SLICE : BYTES_PER_BLOCK)
+                + result.getProcessResults().size() * BYTES_PER_RESULT
+                + result.getStatistics().size() * BYTES_PER_STATISTIC;
+    }
+
+    private static class Entry {
+        final SchedulingResult result;
+        final long bytes;
+
+        Entry(SchedulingResult result, long bytes) {
+            this.result = result;
+            this.bytes = bytes;
+        }
+    }
+
+    private static class Key {
+        final String algorithm;
+        final SchedulerConfig config;
+        final long fingerprint;
+
+        Key(String algorithm, SchedulerConfig config, long fingerprint) {
+            this.algorithm = algorithm;
+            this.config = config;
+            this.fingerprint = fingerprint;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return fingerprint == other.fingerprint && algorithm.equals(other.algorithm)
+                    && config.equals(other.config);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(algorithm, config, fingerprint);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package Utils;
+
+import Models.SampleSummary;
+
+/**
+ * Welford's streaming mean and variance. Two partial results can be merged
+ * (Chan et al.), so disjoint blocks of samples can be accumulated apart.
+ */
+class RunningStatistics {
+    // Two-sided 95% Student's t critical values for 1 to 30 degrees of freedom
+    private static final double[] T_95 = {
+            12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+            2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+            2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042,
+    };
+
+    private long count;
+    private double mean;
+    private double squares; // sum of squared deviations from the mean
+
+    void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        squares += delta * (value - mean);
+    }
+
+    void merge(RunningStatistics other) {
+        if (other.count == 0) return;
+        if (count == 0) {
+            count = other.count;
+            mean = other.mean;
+            squares = other.squares;
+            return;
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        squares += other.squares + delta * delta * ((double) count * other.count / total);
+        count = total;
+    }
+
+    SampleSummary summarize() {
+        if (count < 2) {
+            return new SampleSummary(count, mean, 0, mean, mean);
+        }
+        double deviation = Math.sqrt(squares / (count - 1));
+        double margin = critical(count - 1) * deviation / Math.sqrt(count);
+        return new SampleSummary(count, mean, deviation, mean - margin, mean + margin);
+    }
+
+    // Beyond the table, 1.96 + 2.4/df is within 0.002 of the exact value
+    private static double critical(long degreesOfFreedom) {
+        if (degreesOfFreedom <= T_95.length) {
+            return T_95[(int) degreesOfFreedom - 1];
+        }
+        return 1.96 + 2.4 / degreesOfFreedom;
+    }
+}
@@ -0,0 +1,274 @@
+package Utils;
+
+import Models.ProcessTable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Parser for plain-text workloads with one "arrival burst priority" row per
+ * line (fields separated by whitespace or commas). The file is memory-mapped
+ * and parsed byte by byte straight into primitive columns; no regex and no
+ * per-line Strings are involved. Large files are split at line boundaries
+ * and the chunks are parsed in parallel.
+ *
+ * Blank lines are ignored. Any other line that is not three non-negative
+ * integers is reported by line number in {@link Result#getMalformedLines()}.
+ */
+public class TextWorkloadParser {
+    /** Files larger than this are parsed in parallel chunks. */
+    static final long PARALLEL_THRESHOLD = 16L << 20;
+    /** Upper bound for one mapped chunk. */
+    static final int MAX_CHUNK = 64 << 20;
+    /** Only this many malformed lines are kept verbatim; the rest are only counted. */
+    static final int MAX_REPORTED = 100;
+
+    private static final int OK = 0;
+    private static final int BLANK = 1;
+    private static final int MALFORMED = 2;
+
+    public static class Result {
+        private final ProcessTable table;
+        private final List<String> malformedLines;
+        private final long malformedCount;
+
+        Result(ProcessTable table, List<String> malformedLines, long malformedCount) {
+            this.table = table;
+            this.malformedLines = Collections.unmodifiableList(malformedLines);
+            this.malformedCount = malformedCount;
+        }
+
+        public ProcessTable getTable() { return table; }
+
+        /** The first malformed lines, as messages of the form {@code line 12: "text"}. */
+        public List<String> getMalformedLines() { return malformedLines; }
+
+        public long getMalformedCount() { return malformedCount; }
+    }
+
+    public static Result parse(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int chunkSize = size > PARALLEL_THRESHOLD
+                    ? (int) Math.min(MAX_CHUNK, Math.max(PARALLEL_THRESHOLD,
+                            size / Runtime.getRuntime().availableProcessors() + 1))
+                    : MAX_CHUNK;
+
+            // Split at line boundaries so every chunk holds whole lines
+            List<long[]> bounds = new ArrayList<>();
+            long start = skipByteOrderMark(channel);
+            while (start < size) {
+                long end = start + chunkSize >= size ? size : nextLineStart(channel, start + chunkSize, size);
+                bounds.add(new long[]{start, end});
+                start = end;
+            }
+
+            List<Chunk> chunks;
+            if (bounds.size() > 1) {
+                chunks = bounds.parallelStream()
+                        .map(b -> parseChunk(channel, b[0], b[1]))
+                        .collect(Collectors.toList());
+            } else {
+                chunks = new ArrayList<>();
+                for (long[] b : bounds) {
+                    chunks.add(parseChunk(channel, b[0], b[1]));
+                }
+            }
+            return combine(chunks);
+        } catch (UncheckedIOException e) {
+            // I/O failure of a parallel chunk task
+            throw e.getCause();
+        }
+    }
+
+    private static Result combine(List<Chunk> chunks) {
+        int rows = 0;
+        for (Chunk chunk : chunks) {
+            rows = Math.addExact(rows, chunk.rows);
+        }
+        int[] ids = new int[rows];
+        int[] arrivals = new int[rows];
+        int[] bursts = new int[rows];
+        int[] priorities = new int[rows];
+
+        List<String> malformed = new ArrayList<>();
+        long malformedCount = 0;
+        long firstLine = 1;
+        int offset = 0;
+        for (Chunk chunk : chunks) {
+            System.arraycopy(chunk.arrivals, 0, arrivals, offset, chunk.rows);
+            System.arraycopy(chunk.bursts, 0, bursts, offset, chunk.rows);
+            System.arraycopy(chunk.priorities, 0, priorities, offset, chunk.rows);
+            offset += chunk.rows;
+
+            for (int i = 0; i < chunk.problemLines.size() && malformed.size() < MAX_REPORTED; i++) {
+                malformed.add("line " + (firstLine + chunk.problemLines.get(i)) + ": \"" + chunk.problemTexts.get(i) + "\"");
+            }
+            malformedCount += chunk.malformedCount;
+            firstLine += chunk.lineCount;
+        }
+        // Ids follow file order, counting valid rows only
+        for (int i = 0; i < rows; i++) {
+            ids[i] = i + 1;
+        }
+        return new Result(new ProcessTable(ids, arrivals, bursts, priorities), malformed, malformedCount);
+    }
+
+    private static Chunk parseChunk(FileChannel channel, long start, long end) {
+        MappedByteBuffer buffer;
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Chunk chunk = new Chunk((int) Math.min(1 << 20, (end - start) / 8 + 16));
+        int[] fields = new int[3];
+        int limit = buffer.limit();
+        int pos = 0;
+        while (pos < limit) {
+            int lineStart = pos;
+            int status = parseLine(buffer, pos, limit, fields);
+            pos = skipLine(buffer, pos, limit);
+
+            if (status == OK) {
+                chunk.add(fields[0], fields[1], fields[2]);
+            } else if (status == MALFORMED) {
+                chunk.malformed(lineStart, pos, buffer);
+            }
+            chunk.lineCount++;
+        }
+        return chunk;
+    }
+
+    /**
+     * Parses one line starting at {@code pos} into {@code fields}.
+     * @return OK, BLANK or MALFORMED
+     */
+    private static int parseLine(ByteBuffer buffer, int pos, int limit, int[] fields) {
+        pos = skipBlanks(buffer, pos, limit);
+        if (pos == limit || buffer.get(pos) == '\n') {
+            return BLANK;
+        }
+
+        for (int f = 0; f < 3; f++) {
+            if (f > 0) {
+                // Separator: blanks, optionally one comma surrounded by blanks
+                int afterBlanks = skipBlanks(buffer, pos, limit);
+                boolean comma = afterBlanks < limit && buffer.get(afterBlanks) == ',';
+                if (!comma && afterBlanks == pos) return MALFORMED;
+                pos = comma ? skipBlanks(buffer, afterBlanks + 1, limit) : afterBlanks;
+            }
+
+            if (pos == limit || !isDigit(buffer.get(pos))) return MALFORMED;
+            long value = 0;
+            while (pos < limit && isDigit(buffer.get(pos))) {
+                value = value * 10 + (buffer.get(pos) - '0');
+                if (value > Integer.MAX_VALUE) return MALFORMED;
+                pos++;
+            }
+            fields[f] = (int) value;
+        }
+
+        pos = skipBlanks(buffer, pos, limit);
+        return pos == limit || buffer.get(pos) == '\n' ? OK : MALFORMED;
+    }
+
+    /** Returns the position just after the next '\n' (or {@code limit}). */
+    private static int skipLine(ByteBuffer buffer, int pos, int limit) {
+        while (pos < limit) {
+            if (buffer.get(pos++) == '\n') break;
+        }
+        return pos;
+    }
+
+    /** Skips whitespace and control characters other than '\n', like {@link String#trim()}. */
+    private static int skipBlanks(ByteBuffer buffer, int pos, int limit) {
+        while (pos < limit) {
+            int b = buffer.get(pos) & 0xFF;
+            if (b > ' ' || b == '\n') break;
+            pos++;
+        }
+        return pos;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static long skipByteOrderMark(FileChannel channel) throws IOException {
+        ByteBuffer head = ByteBuffer.allocate(3);
+        channel.read(head, 0);
+        return head.position() == 3 && (head.get(0) & 0xFF) == 0xEF
+                && (head.get(1) & 0xFF) == 0xBB && (head.get(2) & 0xFF) == 0xBF ? 3 : 0;
+    }
+
+    private static long nextLineStart(FileChannel channel, long pos, long size) throws IOException {
+        ByteBuffer window = ByteBuffer.allocate(8192);
+        while (pos < size) {
+            window.clear();
+            int read = channel.read(window, pos);
+            if (read <= 0) break;
+            for (int i = 0; i < read; i++) {
+                if (window.get(i) == '\n') return pos + i + 1;
+            }
+            pos += read;
+        }
+        return size;
+    }
+
+    /** Rows and problems of one chunk; line numbers are relative to the chunk. */
+    private static class Chunk {
+        int[] arrivals;
+        int[] bursts;
+        int[] priorities;
+        int rows;
+        long lineCount;
+        long malformedCount;
+        final List<Long> problemLines = new ArrayList<>();
+        final List<String> problemTexts = new ArrayList<>();
+
+        Chunk(int capacity) {
+            arrivals = new int[capacity];
+            bursts = new int[capacity];
+            priorities = new int[capacity];
+        }
+
+        void add(int arrival, int burst, int priority) {
+            if (rows == arrivals.length) {
+                int capacity = rows + (rows >> 1) + 1;
+                arrivals = Arrays.copyOf(arrivals, capacity);
+                bursts = Arrays.copyOf(bursts, capacity);
+                priorities = Arrays.copyOf(priorities, capacity);
+            }
+            arrivals[rows] = arrival;
+            bursts[rows] = burst;
+            priorities[rows] = priority;
+            rows++;
+        }
+
+        void malformed(int lineStart, int lineEnd, ByteBuffer buffer) {
+            malformedCount++;
+            if (problemLines.size() >= MAX_REPORTED) return;
+
+            int length = Math.min(lineEnd - lineStart, 80);
+            byte[] text = new byte[length];
+            for (int i = 0; i < length; i++) {
+                text[i] = buffer.get(lineStart + i);
+            }
+            problemLines.add(lineCount);
+            problemTexts.add(new String(text, StandardCharsets.UTF_8).trim());
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package Utils;
+
+import Models.ProcessStream;
+import Models.ProcessTable;
+
+import java.util.SplittableRandom;
+
+/**
+ * Synthetic workloads drawn from configurable distributions. Arrivals are a
+ * renewal process: each process arrives a sampled gap after the previous
+ * one, so the workload comes out in arrival order and can be streamed
+ * lazily with constant memory, whatever its size.
+ *
+ * With bursty arrivals the gaps alternate between a calm and a burst phase;
+ * after each arrival the phase ends with probability one over its mean
+ * length, so phase lengths are geometric (a two-state Markov-modulated
+ * renewal process).
+ *
+ * Every stream restarts from the seed, so the same settings and seed always
+ * give the same workload.
+ */
+public class WorkloadGenerator {
+    public static final double DEFAULT_MEAN_INTER_ARRIVAL = 12;
+
+    private final long seed;
+    private Distribution interArrival = Distribution.exponential(DEFAULT_MEAN_INTER_ARRIVAL);
+    private Distribution burstTime = Distribution.uniform(1, 20);
+    private Distribution priority = Distribution.uniform(1, 5);
+    private Distribution burstPhaseInterArrival;
+    private double meanBurstPhase;
+    private double meanCalmPhase;
+
+    public WorkloadGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gaps between consecutive arrivals; exponential gaps give Poisson
+     * arrivals. Gaps must not be negative, or arrivals would go back in time.
+     */
+    public void setInterArrival(Distribution interArrival) {
+        this.interArrival = requireNonNull(interArrival);
+    }
+
+    /** Burst times; samples below 1 are raised to 1. */
+    public void setBurstTime(Distribution burstTime) {
+        this.burstTime = requireNonNull(burstTime);
+    }
+
+    public void setPriority(Distribution priority) {
+        this.priority = requireNonNull(priority);
+    }
+
+    /**
+     * Alternates the {@link #setInterArrival inter-arrival} gaps with
+     * {@code burstInterArrival} gaps, in phases averaging the given numbers
+     * of processes.
+     */
+    public void setBurstyArrivals(Distribution burstInterArrival, double meanBurstPhase, double meanCalmPhase) {
+        if (!(meanBurstPhase >= 1) || !(meanCalmPhase >= 1)) {
+            throw new IllegalArgumentException("Mean phase lengths must be at least 1 process");
+        }
+        this.burstPhaseInterArrival = requireNonNull(burstInterArrival);
+        this.meanBurstPhase = meanBurstPhase;
+        this.meanCalmPhase = meanCalmPhase;
+    }
+
+    public void setSteadyArrivals() {
+        burstPhaseInterArrival = null;
+    }
+
+    /**
+     * Lazily generates {@code count} processes with ids 1 to {@code count}.
+     * The stream draws from the settings at the time of this call.
+     *
+     * @throws IllegalStateException    from {@link ProcessStream#next()} if an
+     *                                  arrival time passes {@link Integer#MAX_VALUE}
+     * @throws IllegalArgumentException from {@link ProcessStream#next()} if an
+     *                                  inter-arrival distribution samples a negative gap
+     */
+    public ProcessStream stream(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Process count must not be negative: " + count);
+        }
+        Distribution calm = interArrival;
+        Distribution burst = burstPhaseInterArrival;
+        Distribution bursts = burstTime;
+        Distribution priorities = priority;
+        double leaveBurst = burst == null ? 0 : 1 / meanBurstPhase;
+        double leaveCalm = burst == null ? 0 : 1 / meanCalmPhase;
+        SplittableRandom random = new SplittableRandom(seed);
+
+        return new ProcessStream() {
+            private int generated;
+            private long clock;
+            private boolean bursting;
+            private int burstTime;
+            private int priority;
+
+            @Override
+            public boolean next() {
+                if (generated == count) return false;
+                // The first process arrives at time 0
+                if (generated > 0) {
+                    int gap = (bursting ? burst : calm).sample(random);
+                    if (gap < 0) {
+                        // Streams must arrive in order; a negative gap would silently corrupt the schedule
+                        throw new IllegalArgumentException("Negative inter-arrival time " + gap
+                                + " before process " + (generated + 1));
+                    }
+                    clock += gap;
+                    if (clock > Integer.MAX_VALUE) {
+                        throw new IllegalStateException("Arrival time of process " + (generated + 1)
+                                + " exceeds " + Integer.MAX_VALUE);
+                    }
+                }
+                if (burst != null && random.nextDouble() < (bursting ? leaveBurst : leaveCalm)) {
+                    bursting = !bursting;
+                }
+                burstTime = Math.max(1, bursts.sample(random));
+                priority = priorities.sample(random);
+                generated++;
+                return true;
+            }
+
+            @Override
+            public int getId() {
+                return generated;
+            }
+
+            @Override
+            public int getArrivalTime() {
+                return (int) clock;
+            }
+
+            @Override
+            public int getBurstTime() {
+                return burstTime;
+            }
+
+            @Override
+            public int getPriority() {
+                return priority;
+            }
+        };
+    }
+
+    /** Materializes {@link #stream(int)} for the engines that need a whole table. */
+    public ProcessTable generate(int count) {
+        int[] ids = new int[count];
+        int[] arrivalTimes = new int[count];
+        int[] burstTimes = new int[count];
+        int[] priorities = new int[count];
+
+        ProcessStream stream = stream(count);
+        for (int i = 0; stream.next(); i++) {
+            ids[i] = stream.getId();
+            arrivalTimes[i] = stream.getArrivalTime();
+            burstTimes[i] = stream.getBurstTime();
+            priorities[i] = stream.getPriority();
+        }
+        return new ProcessTable(ids, arrivalTimes, burstTimes, priorities);
+    }
+
+    private static Distribution requireNonNull(Distribution distribution) {
+        if (distribution == null) {
+            throw new IllegalArgumentException("Distribution must not be null");
+        }
+        return distribution;
+    }
+}